@@ -247,6 +247,18 @@ export const useEntriesStore = defineStore('entries', () => {
     }
   }
 
+  // WebSocket'ten gelen güncel oy sayılarını listedeki entry'lere uygula
+  function applyVoteCounts(counts) {
+    counts.forEach(({ id, likeCount, dislikeCount, favoriteCount }) => {
+      const targets = [allEntries.value.find(e => e.id === id), currentEntry.value?.id === id ? currentEntry.value : null]
+      targets.filter(Boolean).forEach(entry => {
+        entry.likeCount = likeCount
+        entry.dislikeCount = dislikeCount
+        entry.favoriteCount = favoriteCount
+      })
+    })
+  }
+
   // Legacy function for backwards compatibility
   function toggleFavorite(entryId) {
     const entry = allEntries.value.find(e => e.id === entryId)
@@ -284,6 +296,7 @@ export const useEntriesStore = defineStore('entries', () => {
     updateEntry,
     deleteEntry,
     vote,
+    applyVoteCounts,
     toggleFavorite,
     addEntry,
     clearEntries,
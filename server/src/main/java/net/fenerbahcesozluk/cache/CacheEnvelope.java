@@ -0,0 +1,24 @@
+package net.fenerbahcesozluk.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cache'e yazılan değer ve yenilenmesi gereken zaman (soft TTL). Redis'teki
+ * asıl süre (hard TTL) bundan uzundur; arada eski değer sunulur.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEnvelope {
+
+    private Object value;
+
+    // epoch millis
+    private long refreshAt;
+
+    public boolean isStale(long now) {
+        return now >= refreshAt;
+    }
+}
@@ -0,0 +1,90 @@
+package net.fenerbahcesozluk.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Etiket başına hangi cache kayıtlarının o etiketi taşıdığını tutan Redis
+ * set'leri ({@code cache:tag:{tag}} -> {@code cacheName|key}). Set'ler tüm
+ * node'lar için ortaktır; süresi en uzun cache TTL'inden uzun tutulur. Silinmiş
+ * kayıtlara işaret eden üyeler zararsızdır, bir sonraki silmede temizlenir.
+ * Redis çağrıları {@link RedisCircuitBreaker} üzerinden yapılır.
+ */
+@Slf4j
+public class CacheTagIndex {
+
+    private static final String TAG_PREFIX = "cache:tag:";
+    private static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker breaker;
+    private final Duration tagTtl;
+
+    public CacheTagIndex(StringRedisTemplate redisTemplate, RedisCircuitBreaker breaker, Duration tagTtl) {
+        this.redisTemplate = redisTemplate;
+        this.breaker = breaker;
+        this.tagTtl = tagTtl;
+    }
+
+    public void record(String cacheName, String key, Set<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        String member = cacheName + SEPARATOR + key;
+        long ttlSeconds = tagTtl.toSeconds();
+        boolean recorded = breaker.run(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String tag : tags) {
+                conn.sAdd(TAG_PREFIX + tag, member);
+                conn.expire(TAG_PREFIX + tag, ttlSeconds);
+            }
+            return null;
+        }));
+        if (!recorded) {
+            // Etiketsiz kayıt yine de TTL'i dolunca düşer
+            log.warn("Cache tag record failed for {}::{}", cacheName, key);
+        }
+    }
+
+    /**
+     * Etiketleri siler ve taşıyan kayıtları cache adı -> anahtarlar olarak döner.
+     * Redis erişilemiyorsa boş döner; etkilenen kayıtlar bilinmez.
+     */
+    public Optional<Map<String, Set<String>>> drain(Collection<String> tags) {
+        List<String> tagKeys = tags.stream().map(tag -> TAG_PREFIX + tag).toList();
+        List<Object> results = breaker.call(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            tagKeys.forEach(conn::sMembers);
+            conn.del(tagKeys.toArray(String[]::new));
+            return null;
+        }), null);
+        if (results == null) {
+            return Optional.empty();
+        }
+
+        Map<String, Set<String>> entries = new HashMap<>();
+        for (int i = 0; i < tagKeys.size(); i++) {
+            if (!(results.get(i) instanceof Set<?> members)) {
+                continue;
+            }
+            for (Object member : members) {
+                String[] parts = member.toString().split("\\" + SEPARATOR, 2);
+                if (parts.length == 2) {
+                    entries.computeIfAbsent(parts[0], name -> new HashSet<>()).add(parts[1]);
+                }
+            }
+        }
+        return Optional.of(entries);
+    }
+}
@@ -0,0 +1,74 @@
+package net.fenerbahcesozluk.cache;
+
+import net.fenerbahcesozluk.dto.EntryResponse;
+import net.fenerbahcesozluk.dto.StatsResponse;
+import net.fenerbahcesozluk.dto.TopicResponse;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Cache'teki değerlerin içerdiği başlık, yazar ve entry'lerden çıkarılan
+ * etiketler. Bir başlık ya da yazar değiştiğinde yalnızca o etiketi taşıyan
+ * kayıtlar silinir.
+ */
+public final class CacheTags {
+
+    private CacheTags() {
+    }
+
+    public static String topic(UUID topicId) {
+        return "topic:" + topicId;
+    }
+
+    public static String author(UUID authorId) {
+        return "author:" + authorId;
+    }
+
+    // İstatistiklerde yazar yalnızca kullanıcı adıyla yer alır
+    public static String authorName(String username) {
+        return "author-name:" + username;
+    }
+
+    public static String entry(UUID entryId) {
+        return "entry:" + entryId;
+    }
+
+    public static Set<String> of(Object value) {
+        Set<String> tags = new LinkedHashSet<>();
+        collect(value, tags);
+        return tags;
+    }
+
+    private static void collect(Object value, Set<String> tags) {
+        if (value instanceof CacheEnvelope envelope) {
+            collect(envelope.getValue(), tags);
+        } else if (value instanceof Iterable<?> items) {
+            // Page ve List
+            items.forEach(item -> collect(item, tags));
+        } else if (value instanceof TopicResponse topic) {
+            tags.add(topic(topic.getId()));
+            if (topic.getAuthorId() != null) {
+                tags.add(author(topic.getAuthorId()));
+            }
+        } else if (value instanceof EntryResponse entry) {
+            tags.add(entry(entry.getId()));
+            tags.add(topic(entry.getTopicId()));
+            if (entry.getAuthorId() != null) {
+                tags.add(author(entry.getAuthorId()));
+            }
+        } else if (value instanceof StatsResponse stats) {
+            collectStats(stats, tags);
+        }
+    }
+
+    private static void collectStats(StatsResponse stats, Set<String> tags) {
+        if (stats.getTopTopics() != null) {
+            stats.getTopTopics().forEach(topic -> tags.add("topic:" + topic.getId()));
+        }
+        if (stats.getTopAuthors() != null) {
+            stats.getTopAuthors().forEach(author -> tags.add(authorName(author.getUsername())));
+        }
+    }
+}
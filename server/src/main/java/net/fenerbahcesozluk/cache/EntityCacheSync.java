@@ -0,0 +1,92 @@
+package net.fenerbahcesozluk.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.extern.slf4j.Slf4j;
+import net.fenerbahcesozluk.entity.BaseEntity;
+import net.fenerbahcesozluk.entity.Topic;
+import net.fenerbahcesozluk.entity.User;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache'i node içidir. Cache'lenen bir entity
+ * güncellendiğinde ya da silindiğinde commit sonrası {@link #CHANNEL} kanalına
+ * yayın yapılır; diğer node'lar kendi kopyalarını siler (ban, rol, kilit,
+ * künye değişiklikleri). Entity listener olarak Hibernate tarafından Spring
+ * bean'i şeklinde alınır.
+ */
+@Slf4j
+@Component
+public class EntityCacheSync implements MessageListener {
+
+    public static final String CHANNEL = "cache:entity-invalidation";
+
+    private static final Map<String, Class<?>> CACHED_ENTITIES = Map.of("User", User.class, "Topic", Topic.class);
+
+    // Entity listener olarak EntityManagerFactory kurulurken alınır; bağımlılıklar
+    // geç çözülür
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public EntityCacheSync(ObjectProvider<StringRedisTemplate> redisTemplate,
+            ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.redisTemplate = redisTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void entityChanged(Object entity) {
+        String message = String.join("|", nodeId, Hibernate.getClass(entity).getSimpleName(),
+                ((BaseEntity) entity).getId().toString());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(message);
+                }
+            });
+        } else {
+            publish(message);
+        }
+    }
+
+    private void publish(String message) {
+        StringRedisTemplate template = redisTemplate.getIfAvailable();
+        if (template == null) {
+            return;
+        }
+        try {
+            template.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            // Diğer node'lardaki kopya en geç region TTL'i sonunda düşer
+            log.warn("Entity cache invalidation publish failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        Class<?> entityClass = CACHED_ENTITIES.get(parts[1]);
+        if (entityClass != null) {
+            entityManagerFactory.getObject().getCache().evict(entityClass, UUID.fromString(parts[2]));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package net.fenerbahcesozluk.cache;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Süreyi ±ratio oranında rastgele kaydırır; aynı anda yazılan anahtarlar aynı
+ * anda düşmez.
+ */
+public class JitteredTtl implements RedisCacheWriter.TtlFunction {
+
+    private final Duration base;
+    private final double ratio;
+
+    public JitteredTtl(Duration base, double ratio) {
+        this.base = base;
+        this.ratio = ratio;
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, Object value) {
+        return jitter(base, ratio);
+    }
+
+    public static Duration jitter(Duration base, double ratio) {
+        if (ratio <= 0 || base.isZero()) {
+            return base;
+        }
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-ratio, ratio);
+        return Duration.ofMillis(Math.max(1, (long) (base.toMillis() * factor)));
+    }
+}
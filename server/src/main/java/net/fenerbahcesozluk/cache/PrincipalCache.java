@@ -0,0 +1,117 @@
+package net.fenerbahcesozluk.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import net.fenerbahcesozluk.entity.User;
+import net.fenerbahcesozluk.enums.Role;
+import net.fenerbahcesozluk.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JwtAuthenticationFilter için token konusu (kullanıcı adı ya da email) ->
+ * kullanıcı önbelleği. Aktiflik, rol ve ban bilgisi dahil saklanır; her istek
+ * kendi {@link User} kopyasını alır, paylaşılan nesne değiştirilmez. Kullanıcı
+ * değiştiren servisler {@link #invalidate(User)} çağırır; silme commit sonrası
+ * {@link #CHANNEL} üzerinden diğer node'lara da yayınlanır.
+ */
+@Slf4j
+@Component
+public class PrincipalCache implements MessageListener {
+
+    public static final String CHANNEL = "cache:principal-invalidation";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, Snapshot> principals;
+
+    public PrincipalCache(UserRepository userRepository, StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry, @Value("${app.security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${app.security.principal-cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.principals = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals", Tags.of("level", "l1"));
+    }
+
+    /**
+     * Kullanıcıyı cache'ten, yoksa username/email ile veritabanından döner.
+     */
+    public User load(String subject) {
+        Snapshot snapshot = principals.get(subject, key -> userRepository.findByUsername(key)
+                .or(() -> userRepository.findByEmail(key)).map(Snapshot::of).orElse(null));
+        return snapshot != null ? snapshot.toUser() : null;
+    }
+
+    public void invalidate(User user) {
+        String message = user.getUsername() + "|" + user.getEmail();
+        evictLocal(message);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Commit öncesi okuyan bir istek eski hali tekrar yükleyebilir
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocal(message);
+                    publish(message);
+                }
+            });
+        } else {
+            publish(message);
+        }
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            // Diğer node'lardaki kayıt en geç TTL sonunda düşer
+            log.warn("Principal cache invalidation publish failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evictLocal(String message) {
+        for (String key : message.split("\\|")) {
+            principals.invalidate(key);
+        }
+    }
+
+    private record Snapshot(UUID id, Long version, LocalDateTime createdAt, LocalDateTime updatedAt,
+            String username, String email, String password, Role role, boolean active, LocalDateTime bannedUntil,
+            String banReason) {
+
+        static Snapshot of(User user) {
+            return new Snapshot(user.getId(), user.getVersion(), user.getCreatedAt(), user.getUpdatedAt(),
+                    user.getUsername(), user.getEmail(), user.getPassword(), user.getRole(), user.isActive(),
+                    user.getBannedUntil(), user.getBanReason());
+        }
+
+        User toUser() {
+            User user = User.builder().username(username).email(email).password(password).role(role)
+                    .isActive(active).bannedUntil(bannedUntil).banReason(banReason).build();
+            user.setId(id);
+            user.setVersion(version);
+            user.setCreatedAt(createdAt);
+            user.setUpdatedAt(updatedAt);
+            return user;
+        }
+    }
+}
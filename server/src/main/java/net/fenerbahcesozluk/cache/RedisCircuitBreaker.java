@@ -0,0 +1,138 @@
+package net.fenerbahcesozluk.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisPipelineException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker for cache calls to Redis. After {@code failureThreshold}
+ * consecutive failures the circuit opens and calls are skipped (the caller's
+ * fallback is used) for {@code openDuration}; then a single probe call is let
+ * through. A successful probe closes the circuit and runs the recovery
+ * listeners.
+ * <p>
+ * Only Redis connection, timeout and command failures count and fall back.
+ * Any other exception from the action, such as a serialization error or a bug in
+ * the caller's code, is rethrown and leaves the circuit as it is.
+ */
+@Slf4j
+public class RedisCircuitBreaker {
+
+    private static final int CLOSED = 0;
+    private static final int OPEN = 1;
+    private static final int HALF_OPEN = 2;
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final AtomicInteger state = new AtomicInteger(CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+    private final List<Runnable> recoveryListeners = new CopyOnWriteArrayList<>();
+
+    private final Counter errors;
+    private final Counter shortCircuited;
+    private final Timer failureTime;
+
+    public RedisCircuitBreaker(int failureThreshold, Duration openDuration, MeterRegistry meterRegistry) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        Gauge.builder("cache.redis.degraded", state, s -> s.get() == CLOSED ? 0 : 1)
+                .description("1 while cache calls to Redis are short-circuited").register(meterRegistry);
+        this.errors = Counter.builder("cache.redis.errors").description("Failed cache calls to Redis")
+                .register(meterRegistry);
+        this.shortCircuited = Counter.builder("cache.redis.short.circuited")
+                .description("Cache calls served locally because the circuit was open").register(meterRegistry);
+        this.failureTime = Timer.builder("cache.redis.failure.time")
+                .description("Time spent in cache calls to Redis that failed").register(meterRegistry);
+    }
+
+    public void onRecovery(Runnable listener) {
+        recoveryListeners.add(listener);
+    }
+
+    public boolean isOpen() {
+        return state.get() != CLOSED;
+    }
+
+    public <T> T call(Supplier<T> action, T fallback) {
+        if (!allowRequest()) {
+            shortCircuited.increment();
+            return fallback;
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = action.get();
+            recordSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            if (!isRedisFailure(e)) {
+                // Redis'e ulaşıldı ya da hiç gidilmedi; deneme hakkı bir sonraki isteğe kalsın
+                state.compareAndSet(HALF_OPEN, OPEN);
+                throw e;
+            }
+            recordFailure(System.nanoTime() - start, e);
+            return fallback;
+        }
+    }
+
+    private static boolean isRedisFailure(RuntimeException e) {
+        return e instanceof RedisConnectionFailureException || e instanceof QueryTimeoutException
+                || e instanceof RedisSystemException || e instanceof RedisPipelineException;
+    }
+
+    public boolean run(Runnable action) {
+        return call(() -> {
+            action.run();
+            return true;
+        }, false);
+    }
+
+    private boolean allowRequest() {
+        int current = state.get();
+        if (current == CLOSED) {
+            return true;
+        }
+        // Açık süre dolduysa tek bir deneme isteği geçer
+        return current == OPEN && System.nanoTime() - openedAt.get() >= openNanos
+                && state.compareAndSet(OPEN, HALF_OPEN);
+    }
+
+    private void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (state.get() != CLOSED && state.getAndSet(CLOSED) != CLOSED) {
+            log.info("Redis cache circuit closed, replaying pending evictions");
+            recoveryListeners.forEach(Runnable::run);
+        }
+    }
+
+    private void recordFailure(long elapsedNanos, RuntimeException e) {
+        errors.increment();
+        failureTime.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        int failures = consecutiveFailures.incrementAndGet();
+        int current = state.get();
+        if (current == HALF_OPEN || (current == CLOSED && failures >= failureThreshold)) {
+            openedAt.set(System.nanoTime());
+            if (state.getAndSet(OPEN) != OPEN) {
+                log.warn("Redis cache circuit opened after {} failures: {}", failures, e.getMessage());
+            }
+        } else {
+            log.debug("Redis cache call failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package net.fenerbahcesozluk.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Stale-while-revalidate decorator. Values are stored in the delegate inside a
+ * {@link CacheEnvelope} carrying a jittered soft TTL. After the soft TTL,
+ * {@link #get(Object, Callable)} still returns the cached value and reloads it on
+ * the refresh executor; callers only block when the delegate has nothing (the
+ * hard TTL has passed or the key was evicted).
+ * <p>
+ * Only {@link #get(Object, Callable)} refreshes, so callers must use
+ * {@code @Cacheable(sync = true)}.
+ */
+@Slf4j
+public class RefreshAheadCache implements Cache {
+
+    private final Cache delegate;
+    private final Duration softTtl;
+    private final double jitter;
+    private final Executor refreshExecutor;
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Counter staleHits;
+    private final Counter refreshed;
+    private final Counter refreshFailed;
+    private final Counter refreshRejected;
+
+    public RefreshAheadCache(Cache delegate, Duration softTtl, double jitter, Executor refreshExecutor,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.softTtl = softTtl;
+        this.jitter = jitter;
+        this.refreshExecutor = refreshExecutor;
+        this.staleHits = Counter.builder("cache.stale.hits").tag("cache", delegate.getName())
+                .description("Hits served after the soft TTL").register(meterRegistry);
+        this.refreshed = refreshCounter(meterRegistry, "success");
+        this.refreshFailed = refreshCounter(meterRegistry, "failure");
+        this.refreshRejected = refreshCounter(meterRegistry, "rejected");
+    }
+
+    private Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.refresh").tag("cache", delegate.getName()).tag("result", result)
+                .description("Background refreshes").register(meterRegistry);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            Object stored = cached.get();
+            if (!(stored instanceof CacheEnvelope envelope)) {
+                // Envelope öncesi yazılmış kayıt - sun ve yenile
+                scheduleRefresh(key, valueLoader);
+                return (T) stored;
+            }
+            if (envelope.isStale(System.currentTimeMillis())) {
+                staleHits.increment();
+                scheduleRefresh(key, valueLoader);
+            }
+            return (T) envelope.getValue();
+        }
+
+        Object loaded = delegate.get(key, () -> wrap(valueLoader.call()));
+        return (T) unwrap(loaded);
+    }
+
+    private void scheduleRefresh(Object key, Callable<?> valueLoader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> refresh(key, valueLoader));
+        } catch (RejectedExecutionException e) {
+            // Kuyruk dolu - bir sonraki istek tekrar dener
+            refreshing.remove(key);
+            refreshRejected.increment();
+        }
+    }
+
+    private void refresh(Object key, Callable<?> valueLoader) {
+        try {
+            Object value = valueLoader.call();
+            if (value != null) {
+                delegate.put(key, wrap(value));
+            }
+            refreshed.increment();
+        } catch (Exception e) {
+            // Eski değer hard TTL'e kadar sunulmaya devam eder
+            refreshFailed.increment();
+            log.warn("Background refresh failed for {}::{}: {}", getName(), key, e.getMessage());
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+
+    private CacheEnvelope wrap(Object value) {
+        if (value == null) {
+            return null;
+        }
+        long refreshAt = System.currentTimeMillis() + JitteredTtl.jitter(softTtl, jitter).toMillis();
+        return new CacheEnvelope(value, refreshAt);
+    }
+
+    private static Object unwrap(Object stored) {
+        return stored instanceof CacheEnvelope envelope ? envelope.getValue() : stored;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper cached = delegate.get(key);
+        return cached != null ? new SimpleValueWrapper(unwrap(cached.get())) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper cached = get(key);
+        Object value = cached != null ? cached.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, wrap(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
@@ -0,0 +1,74 @@
+package net.fenerbahcesozluk.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.fenerbahcesozluk.config.AppCacheProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps every cache that has a soft TTL in a {@link RefreshAheadCache}. Refreshes
+ * run on a small bounded pool; when its queue is full the stale value is served
+ * and the refresh is retried by a later request.
+ */
+public class RefreshAheadCacheManager implements CacheManager, DisposableBean {
+
+    private final CacheManager delegate;
+    private final AppCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public RefreshAheadCacheManager(CacheManager delegate, AppCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        AppCacheProperties.Refresh refresh = properties.getRefresh();
+        this.refreshExecutor = new ThreadPoolExecutor(refresh.getThreads(), refresh.getThreads(), 60,
+                TimeUnit.SECONDS, new ArrayBlockingQueue<>(refresh.getQueueCapacity()),
+                new CustomizableThreadFactory("cache-refresh-"), new ThreadPoolExecutor.AbortPolicy());
+        this.refreshExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> decorate(key, target));
+    }
+
+    private Cache decorate(String name, Cache target) {
+        Duration softTtl = properties.specFor(name).getSoftTtl();
+        if (softTtl == null) {
+            return target;
+        }
+        return new RefreshAheadCache(target, softTtl, properties.getTtlJitter(), refreshExecutor, meterRegistry);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+}
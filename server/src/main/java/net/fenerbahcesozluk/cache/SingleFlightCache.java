@@ -0,0 +1,223 @@
+package net.fenerbahcesozluk.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Cache decorator that lets only one loader run per key. Concurrent misses on the
+ * same node wait for the running load; with a {@link StringRedisTemplate} the
+ * other nodes wait too, by polling the cache while a Redis lock is held. Lock
+ * calls go through the {@link RedisCircuitBreaker}; while it is open the loader
+ * runs without the cluster lock.
+ * <p>
+ * Only {@link #get(Object, Callable)} coalesces, so callers must use
+ * {@code @Cacheable(sync = true)}.
+ */
+@Slf4j
+public class SingleFlightCache implements Cache {
+
+    private static final String LOCK_PREFIX = "lock:cache:";
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+
+    // Kilidi yalnızca sahibi bırakabilir
+    private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final Cache delegate;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker breaker;
+    private final Duration lockTimeout;
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter loads;
+    private final Counter coalescedLocal;
+    private final Counter coalescedCluster;
+
+    public SingleFlightCache(Cache delegate, StringRedisTemplate redisTemplate, RedisCircuitBreaker breaker,
+            Duration lockTimeout, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.redisTemplate = redisTemplate;
+        this.breaker = breaker;
+        this.lockTimeout = lockTimeout;
+        this.loads = Counter.builder("cache.loads").tag("cache", delegate.getName())
+                .description("Loader executions").register(meterRegistry);
+        this.coalescedLocal = Counter.builder("cache.loads.coalesced").tag("cache", delegate.getName())
+                .tag("scope", "local").description("Misses served by another caller's load").register(meterRegistry);
+        this.coalescedCluster = Counter.builder("cache.loads.coalesced").tag("cache", delegate.getName())
+                .tag("scope", "cluster").description("Misses served by another caller's load").register(meterRegistry);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            coalescedLocal.increment();
+            return (T) await(key, valueLoader, running);
+        }
+
+        try {
+            Object value = load(key, valueLoader);
+            flight.complete(value);
+            return (T) value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        if (redisTemplate == null) {
+            return loadAndPut(key, valueLoader);
+        }
+
+        String lockKey = LOCK_PREFIX + getName() + ":" + key;
+        String token = UUID.randomUUID().toString();
+        // null: Redis erişilemiyor ya da breaker açık - kilitsiz yükle
+        Boolean locked = breaker.call(() -> redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTimeout),
+                null);
+        if (locked == null) {
+            log.debug("Cache lock unavailable for {}, loading without it", lockKey);
+            return loadAndPut(key, valueLoader);
+        }
+
+        if (locked) {
+            try {
+                return loadAndPut(key, valueLoader);
+            } finally {
+                unlock(lockKey, token);
+            }
+        }
+
+        // Başka bir node yüklüyor - sonucu cache'te bekle
+        long deadline = System.nanoTime() + lockTimeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            ValueWrapper cached = delegate.get(key);
+            if (cached != null) {
+                coalescedCluster.increment();
+                return cached.get();
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return loadAndPut(key, valueLoader);
+    }
+
+    private Object loadAndPut(Object key, Callable<?> valueLoader) {
+        // Kilidi beklerken başka biri doldurmuş olabilir
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            return cached.get();
+        }
+
+        Object value;
+        try {
+            loads.increment();
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (value != null) {
+            delegate.put(key, value);
+        }
+        return value;
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> running) {
+        try {
+            return running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } catch (ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    private void unlock(String lockKey, String token) {
+        // Kilit zaten süresi dolunca düşer
+        if (!breaker.run(() -> redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token))) {
+            log.warn("Cache unlock failed for {}", lockKey);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
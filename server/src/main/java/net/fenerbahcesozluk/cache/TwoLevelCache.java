@@ -0,0 +1,161 @@
+package net.fenerbahcesozluk.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node içi Caffeine (L1) önbelleği, Redis (L2) önünde. Okumalar önce L1'e bakar;
+ * yazma ve silmeler her iki seviyeye uygulanır ve diğer node'ların L1'ini
+ * temizlemek için {@link TwoLevelCacheManager} üzerinden yayınlanır.
+ * <p>
+ * L1'deki nesneler istekler arasında paylaşılır, çağıranlar dönen değeri
+ * değiştirmemelidir.
+ * <p>
+ * Redis çağrıları {@link RedisCircuitBreaker} üzerinden yapılır; Redis
+ * erişilemezken cache yalnızca L1 ile çalışır. O sırada başarısız olan
+ * silmeler saklanır ve Redis geri geldiğinde tekrar uygulanır.
+ */
+public class TwoLevelCache implements Cache {
+
+    private static final int MAX_PENDING_EVICTIONS = 1000;
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final TwoLevelCacheManager manager;
+    private final RedisCircuitBreaker breaker;
+    private final Set<Object> pendingEvictions = ConcurrentHashMap.newKeySet();
+    private volatile boolean pendingClear;
+
+    TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> local, Cache remote,
+            TwoLevelCacheManager manager, RedisCircuitBreaker breaker) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.manager = manager;
+        this.breaker = breaker;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = key.toString();
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            return new SimpleValueWrapper(value);
+        }
+
+        ValueWrapper wrapper = breaker.call(() -> remote.get(key), null);
+        if (wrapper != null && wrapper.get() != null) {
+            local.put(localKey, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        local.put(key.toString(), value);
+        if (breaker.run(() -> remote.put(key, value))) {
+            manager.recordTags(name, key.toString(), value);
+            manager.publishEvict(name, key.toString());
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.invalidate(key.toString());
+        if (breaker.run(() -> remote.evict(key))) {
+            manager.publishEvict(name, key.toString());
+        } else {
+            deferEviction(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        if (breaker.run(remote::clear)) {
+            manager.publishClear(name);
+        } else {
+            pendingClear = true;
+        }
+    }
+
+    private void deferEviction(Object key) {
+        if (pendingEvictions.size() >= MAX_PENDING_EVICTIONS) {
+            pendingClear = true;
+            pendingEvictions.clear();
+        } else {
+            pendingEvictions.add(key);
+        }
+    }
+
+    // Redis geri geldiğinde kesinti sırasında yapılamayan silmeleri uygular
+    void replayPendingEvictions() {
+        if (pendingClear) {
+            pendingClear = false;
+            pendingEvictions.clear();
+            clear();
+            return;
+        }
+        for (Object key : pendingEvictions) {
+            pendingEvictions.remove(key);
+            evict(key);
+        }
+    }
+
+    // Diğer node'lardan gelen invalidation mesajları yalnızca L1'i temizler
+    void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+}
@@ -0,0 +1,123 @@
+package net.fenerbahcesozluk.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import net.fenerbahcesozluk.config.AppCacheProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Her cache'i {@link TwoLevelCache} olarak sunar: L1 Caffeine, L2 verilen Redis
+ * cache manager. Silmeler {@link #CHANNEL} kanalına yayınlanır; diğer node'lar
+ * mesajı alıp yalnızca kendi L1'lerini temizler. Yazılan her kaydın etiketleri
+ * {@link CacheTagIndex}'e eklenir.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String CHANNEL = "cache:invalidation";
+
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+
+    private final CacheManager remoteManager;
+    private final AppCacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final CacheTagIndex tagIndex;
+    private final RedisCircuitBreaker breaker;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteManager, AppCacheProperties properties,
+            StringRedisTemplate redisTemplate, MeterRegistry meterRegistry, CacheTagIndex tagIndex,
+            RedisCircuitBreaker breaker) {
+        this.remoteManager = remoteManager;
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.tagIndex = tagIndex;
+        this.breaker = breaker;
+        breaker.onRecovery(() -> caches.values().forEach(TwoLevelCache::replayPendingEvictions));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> createCache(key, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteManager.getCacheNames();
+    }
+
+    private TwoLevelCache createCache(String name, Cache remote) {
+        AppCacheProperties.Spec spec = properties.specFor(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(spec.getLocalMaxSize()).expireAfterWrite(spec.getLocalTtl()).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, Tags.of("level", "l1"));
+        return new TwoLevelCache(name, local, remote, this, breaker);
+    }
+
+    void recordTags(String cacheName, String key, Object value) {
+        tagIndex.record(cacheName, key, CacheTags.of(value));
+    }
+
+    void publishEvict(String cacheName, String key) {
+        publish(EVICT, cacheName, key);
+    }
+
+    void publishClear(String cacheName) {
+        publish(CLEAR, cacheName, "");
+    }
+
+    private void publish(String op, String cacheName, String key) {
+        if (breaker.isOpen()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.join("|", nodeId, op, cacheName, key));
+        } catch (RuntimeException e) {
+            // Diğer node'ların L1'i en geç localTtl sonunda güncellenir
+            log.warn("Cache invalidation publish failed for {}: {}", cacheName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length != 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        if (CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[3]);
+        }
+    }
+}
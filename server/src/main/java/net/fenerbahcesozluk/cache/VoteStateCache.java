@@ -0,0 +1,329 @@
+package net.fenerbahcesozluk.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.fenerbahcesozluk.entity.Vote;
+import net.fenerbahcesozluk.enums.VoteType;
+import net.fenerbahcesozluk.exception.BusinessException;
+import net.fenerbahcesozluk.repository.VoteRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Kullanıcı başına oy durumu: {@code votes:user:{userId}} Redis hash'i,
+ * entry id -> oy tipi (oy yoksa {@link #NONE}). Sayfa başına tek HMGET ile
+ * okunur; hash'te olmayan entry'ler veritabanından yüklenip HSETNX ile eklenir.
+ * {@code VoteBatchWriter} commit sonrası yazdığı oyları buraya da yazar;
+ * HSETNX sayesinde eş zamanlı bir yükleme yeni oyu eskisiyle ezemez.
+ * <p>
+ * Writer commit öncesi kullanıcıları {@code votes:writing:{userId}} set'ine
+ * kendi node id'siyle işaretler, commit sonrası işareti kaldırıp hash'i yazar.
+ * İşaret duran (yazımı süren ya da Redis'e yazamamış) kullanıcıların hash'ine
+ * hiçbir node güvenmez: okumalar veritabanına gider, hash doldurulmaz. Yazamayan
+ * node Redis dönünce hash'i silip işaretini kaldırır; node o arada düşerse
+ * işaret state-ttl sonunda kendiliğinden düşer.
+ * <p>
+ * Kuyrukta bekleyen, henüz yazılmamış hedefler {@code votes:pending:{userId}}
+ * hash'inde tüm node'lar için ortaktır: art arda gelen toggle'lar hangi node'a
+ * düşerse düşsün aynı tabana uygulanır.
+ */
+@Slf4j
+@Component
+public class VoteStateCache {
+
+    private static final String KEY_PREFIX = "votes:user:";
+    private static final String PENDING_PREFIX = "votes:pending:";
+    private static final String WRITING_PREFIX = "votes:writing:";
+    private static final String NONE = "-";
+    private static final int SWAP_ATTEMPTS = 3;
+
+    // KEYS: kullanıcı başına hash ve işaret set'i. ARGV: node, ttl, ardından kullanıcı
+    // başına önce silinsin mi (1/0), alan sayısı ve alan/değer çiftleri
+    private static final RedisScript<Long> PUT_SCRIPT = RedisScript.of("""
+            local node, ttl, i = ARGV[1], ARGV[2], 3
+            for k = 1, #KEYS, 2 do
+                local hash, marker = KEYS[k], KEYS[k + 1]
+                local n = tonumber(ARGV[i + 1])
+                if ARGV[i] == '1' then
+                    redis.call('DEL', hash)
+                end
+                redis.call('SREM', marker, node)
+                if redis.call('EXISTS', marker) == 1 then
+                    -- Başka bir node'un yazımı sürüyor ya da yazamadı
+                    redis.call('DEL', hash)
+                elseif n > 0 then
+                    redis.call('HSET', hash, unpack(ARGV, i + 2, i + 1 + 2 * n))
+                    redis.call('EXPIRE', hash, ttl)
+                end
+                i = i + 2 + 2 * n
+            end
+            return 0
+            """, Long.class);
+
+    // Alan beklenen değerdeyse (ARGV[2], '' = yok) hedefi yazar, hedef '' ise siler
+    private static final RedisScript<Long> SWAP_PENDING_SCRIPT = RedisScript.of("""
+            local current = redis.call('HGET', KEYS[1], ARGV[1]) or ''
+            if current ~= ARGV[2] then
+                return 0
+            end
+            if ARGV[3] == '' then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+            else
+                redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+                redis.call('EXPIRE', KEYS[1], ARGV[4])
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final VoteRepository voteRepository;
+    private final long ttlSeconds;
+    private final long pendingTtlSeconds;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // Bu node'un yazamadığı kullanıcılar; işaretleri Redis'te durur, burada yalnızca
+    // Redis dönünce hash'lerini silip işareti kaldırmak için tutulur
+    private final Set<UUID> staleUsers = ConcurrentHashMap.newKeySet();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public VoteStateCache(StringRedisTemplate redisTemplate, RedisCircuitBreaker circuitBreaker,
+            VoteRepository voteRepository, MeterRegistry meterRegistry,
+            @Value("${app.votes.state-ttl:6h}") Duration ttl,
+            @Value("${app.votes.pending-grace:10s}") Duration pendingGrace) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.voteRepository = voteRepository;
+        this.ttlSeconds = ttl.toSeconds();
+        this.pendingTtlSeconds = pendingGrace.toSeconds();
+        this.hits = Counter.builder("votes.state.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("votes.state.cache").tag("result", "miss").register(meterRegistry);
+        circuitBreaker.onRecovery(this::purgeStale);
+    }
+
+    /**
+     * Kullanıcının verilen entry'lerdeki oylarını döner; oy olmayan entry'ler
+     * sonuçta yer almaz. Kuyrukta bekleyen ortak hedefler kayıtlı oyun önüne
+     * geçer: kullanıcı oyunu, isteği hangi node'a düşerse düşsün hemen görür.
+     */
+    public Map<UUID, VoteType> getVotes(UUID userId, List<UUID> entryIds) {
+        if (entryIds.isEmpty()) {
+            return Map.of();
+        }
+
+        String key = KEY_PREFIX + userId;
+        String[] fields = entryIds.stream().map(UUID::toString).toArray(String[]::new);
+        List<Object> results = circuitBreaker.call(() -> redisTemplate.executePipelined(
+                (RedisCallback<Object>) connection -> {
+                    StringRedisConnection conn = (StringRedisConnection) connection;
+                    conn.hMGet(key, fields);
+                    conn.exists(WRITING_PREFIX + userId);
+                    conn.hMGet(PENDING_PREFIX + userId, fields);
+                    return null;
+                }), null);
+        boolean trusted = results != null && !Boolean.TRUE.equals(results.get(1)) && !staleUsers.contains(userId);
+        List<?> cached = trusted ? (List<?>) results.get(0) : null;
+        List<?> pendingValues = results != null ? (List<?>) results.get(2) : null;
+
+        Map<UUID, VoteType> votes = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (int i = 0; i < entryIds.size(); i++) {
+            Object pendingValue = pendingValues != null ? pendingValues.get(i) : null;
+            Object value = pendingValue != null ? pendingValue : cached != null ? cached.get(i) : null;
+            if (value == null) {
+                missing.add(entryIds.get(i));
+            } else if (!NONE.equals(value)) {
+                votes.put(entryIds.get(i), VoteType.valueOf(value.toString()));
+            }
+        }
+        hits.increment(entryIds.size() - missing.size());
+        misses.increment(missing.size());
+
+        if (!missing.isEmpty()) {
+            Map<UUID, VoteType> loaded = voteRepository.findByEntryIdsAndUserId(missing, userId).stream()
+                    .collect(Collectors.toMap(v -> v.getEntry().getId(), Vote::getVoteType));
+            votes.putAll(loaded);
+            if (cached != null) {
+                fill(key, missing, loaded);
+            }
+        }
+        return votes;
+    }
+
+    public VoteType getVote(UUID userId, UUID entryId) {
+        return getVotes(userId, List.of(entryId)).get(entryId);
+    }
+
+    /**
+     * Commit öncesi kullanıcıları yazımı sürüyor olarak işaretler; işaret
+     * {@link #putAll} ile kaldırılır.
+     */
+    public void markWriting(Collection<UUID> userIds) {
+        // Yazılamazsa Redis erişilemiyordur; putAll da yazamazsa kullanıcılar staleUsers'a girer
+        circuitBreaker.run(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (UUID userId : userIds) {
+                conn.sAdd(WRITING_PREFIX + userId, nodeId);
+                conn.expire(WRITING_PREFIX + userId, ttlSeconds);
+            }
+            return null;
+        }));
+    }
+
+    /**
+     * Commit edilmiş oyları yazar ve işaretleri kaldırır: kullanıcı -> (entry ->
+     * oy tipi, oy yoksa null). {@link #markWriting} ile işaretlenen her kullanıcı,
+     * oyu yazılmamış olsa da boş map ile verilmelidir. Redis'e yazılamadıysa
+     * false döner.
+     */
+    public boolean putAll(Map<UUID, Map<UUID, VoteType>> votesByUser) {
+        if (votesByUser.isEmpty()) {
+            return true;
+        }
+
+        List<String> keys = new ArrayList<>(votesByUser.size() * 2);
+        List<String> args = new ArrayList<>(List.of(nodeId, String.valueOf(ttlSeconds)));
+        votesByUser.forEach((userId, votes) -> {
+            keys.add(KEY_PREFIX + userId);
+            keys.add(WRITING_PREFIX + userId);
+            // Daha önce yazılamadıysa hash eskidir, önce silinir
+            args.add(staleUsers.contains(userId) ? "1" : "0");
+            args.add(String.valueOf(votes.size()));
+            votes.forEach((entryId, voteType) -> {
+                args.add(entryId.toString());
+                args.add(encode(voteType));
+            });
+        });
+
+        if (circuitBreaker.run(() -> redisTemplate.execute(PUT_SCRIPT, keys, args.toArray()))) {
+            staleUsers.removeAll(votesByUser.keySet());
+            return true;
+        }
+        staleUsers.addAll(votesByUser.keySet());
+        log.warn("Vote state write-through failed for {} users, reading them from the database",
+                votesByUser.size());
+        return false;
+    }
+
+    /**
+     * Oyu node'lar arası ortak tabana göre değiştirir: başka bir node'un henüz
+     * yazmadığı hedef varsa o, yoksa {@code base} taban alınır. Yeni hedef ancak
+     * taban bu arada değişmediyse yazılır, değiştiyse yeniden denenir. Redis
+     * erişilemiyorsa null döner; çağıran yerel tabanla devam eder.
+     */
+    public PendingVote swapPending(UUID userId, UUID entryId, UnaryOperator<VoteType> change,
+            Supplier<VoteType> base) {
+        String key = PENDING_PREFIX + userId;
+        String field = entryId.toString();
+        for (int attempt = 0; attempt < SWAP_ATTEMPTS; attempt++) {
+            Optional<String> shared = circuitBreaker.call(
+                    () -> Optional.ofNullable(redisTemplate.opsForHash().get(key, field)).map(Object::toString), null);
+            if (shared == null) {
+                return null;
+            }
+
+            VoteType target = change.apply(shared.isPresent() ? decode(shared.get()) : base.get());
+            Long swapped = circuitBreaker.call(() -> redisTemplate.execute(SWAP_PENDING_SCRIPT, List.of(key), field,
+                    shared.orElse(""), encode(target), String.valueOf(pendingTtlSeconds)), null);
+            if (swapped == null) {
+                return null;
+            }
+            if (swapped == 1) {
+                return new PendingVote(target);
+            }
+        }
+        throw new BusinessException("Oy aynı anda değiştirildi. Lütfen tekrar deneyin.", HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Verilen kullanıcı -> entry'ler için bekleyen ortak hedefleri döner; hedefi
+     * olmayanlar sonuçta yer almaz. Redis erişilemiyorsa boş döner.
+     */
+    public Map<UUID, Map<UUID, PendingVote>> pendingVotes(Map<UUID, List<UUID>> entriesByUser) {
+        List<UUID> users = new ArrayList<>(entriesByUser.keySet());
+        List<Object> results = circuitBreaker.call(() -> redisTemplate.executePipelined(
+                (RedisCallback<Object>) connection -> {
+                    StringRedisConnection conn = (StringRedisConnection) connection;
+                    users.forEach(userId -> conn.hMGet(PENDING_PREFIX + userId, entriesByUser.get(userId).stream()
+                            .map(UUID::toString).toArray(String[]::new)));
+                    return null;
+                }), null);
+        if (results == null) {
+            return Map.of();
+        }
+
+        Map<UUID, Map<UUID, PendingVote>> pendingByUser = new HashMap<>();
+        for (int i = 0; i < users.size(); i++) {
+            UUID userId = users.get(i);
+            List<?> values = (List<?>) results.get(i);
+            List<UUID> entryIds = entriesByUser.get(userId);
+            for (int j = 0; j < entryIds.size(); j++) {
+                if (values.get(j) != null) {
+                    pendingByUser.computeIfAbsent(userId, id -> new HashMap<>())
+                            .put(entryIds.get(j), new PendingVote(decode(values.get(j).toString())));
+                }
+            }
+        }
+        return pendingByUser;
+    }
+
+    // Yazılamayan hedef, arada yenisi gelmediyse kaldırılır; diğer node'lar kayıtlı oya döner
+    public void clearPending(UUID userId, UUID entryId, VoteType target) {
+        circuitBreaker.run(() -> redisTemplate.execute(SWAP_PENDING_SCRIPT, List.of(PENDING_PREFIX + userId),
+                entryId.toString(), encode(target), "", "0"));
+    }
+
+    private static String encode(VoteType voteType) {
+        return voteType != null ? voteType.name() : NONE;
+    }
+
+    private static VoteType decode(String value) {
+        return NONE.equals(value) ? null : VoteType.valueOf(value);
+    }
+
+    private void fill(String key, List<UUID> entryIds, Map<UUID, VoteType> votes) {
+        circuitBreaker.run(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (UUID entryId : entryIds) {
+                conn.hSetNX(key, entryId.toString(), encode(votes.get(entryId)));
+            }
+            conn.expire(key, ttlSeconds);
+            return null;
+        }));
+    }
+
+    // Hash'ler silinir, işaretler kaldırılır; sonraki okumalar veritabanından doldurur
+    private void purgeStale() {
+        Map<UUID, Map<UUID, VoteType>> purged = new HashMap<>();
+        staleUsers.forEach(userId -> purged.put(userId, Map.of()));
+        putAll(purged);
+    }
+
+    /**
+     * Kuyrukta bekleyen hedef oy; {@code voteType} null ise hedef "oy yok"tur.
+     */
+    public record PendingVote(VoteType voteType) {
+    }
+}
@@ -0,0 +1,219 @@
+package net.fenerbahcesozluk.cache.codec;
+
+import net.fenerbahcesozluk.cache.CacheEnvelope;
+import net.fenerbahcesozluk.dto.RestPage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Cache value serializer that writes registered DTO types (and pages of them)
+ * in a compact tagged binary layout instead of typed JSON. Payloads above the
+ * compression threshold are deflated. Types without a codec, and values written
+ * by the previous JSON serializer, go through the fallback serializer.
+ * <p>
+ * Layout: {@code MAGIC, VERSION, flags, tag, payload}. A {@link CacheEnvelope}
+ * is written as its own tag and refresh time followed by the wrapped value.
+ */
+public class BinaryCacheSerializer implements RedisSerializer<Object> {
+
+    // JSON hiçbir zaman bu bayt ile başlamaz
+    private static final byte MAGIC = (byte) 0xB1;
+    private static final byte VERSION = 1;
+
+    private static final byte FLAG_COMPRESSED = 1;
+
+    private static final byte PAGE_TAG = 1;
+    private static final byte EMPTY_TAG = 0;
+    private static final byte ENVELOPE_TAG = (byte) 0xFF;
+
+    // zlib durumunu her çağrıda kurmak sıkıştırmanın kendisinden pahalı; thread
+    // başına bir tane tutulup reset ile yeniden kullanılır
+    private static final ThreadLocal<Deflater> DEFLATERS = ThreadLocal
+            .withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+    private static final ThreadLocal<Inflater> INFLATERS = ThreadLocal.withInitial(Inflater::new);
+
+    private final Map<Byte, CacheValueCodec<?>> codecsByTag = new HashMap<>();
+    private final Map<Class<?>, CacheValueCodec<?>> codecsByType = new HashMap<>();
+    private final RedisSerializer<Object> fallback;
+    private final int compressionThreshold;
+
+    public BinaryCacheSerializer(List<CacheValueCodec<?>> codecs, RedisSerializer<Object> fallback,
+            int compressionThreshold) {
+        for (CacheValueCodec<?> codec : codecs) {
+            if (codec.tag() == PAGE_TAG || codec.tag() == EMPTY_TAG || codec.tag() == ENVELOPE_TAG
+                    || codecsByTag.containsKey(codec.tag())) {
+                throw new IllegalArgumentException("Duplicate or reserved codec tag " + codec.tag());
+            }
+            codecsByTag.put(codec.tag(), codec);
+            codecsByType.put(codec.type(), codec);
+        }
+        this.fallback = fallback;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        if (!supports(value)) {
+            return fallback.serialize(value);
+        }
+
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+            BinaryOutput out = new BinaryOutput(buffer);
+            writeValue(value, out);
+            out.flush();
+            byte[] payload = buffer.toByteArray();
+
+            boolean compress = payload.length > compressionThreshold;
+            ByteArrayOutputStream result = new ByteArrayOutputStream(payload.length / (compress ? 3 : 1) + 3);
+            result.write(MAGIC);
+            result.write(VERSION);
+            result.write(compress ? FLAG_COMPRESSED : 0);
+            if (compress) {
+                Deflater deflater = DEFLATERS.get();
+                deflater.reset();
+                try (DeflaterOutputStream compressed = new DeflaterOutputStream(result, deflater)) {
+                    compressed.write(payload);
+                }
+            } else {
+                result.write(payload);
+            }
+            return result.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Cannot encode cache value of type " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < 3 || bytes[1] != VERSION) {
+            // Başka sürümün yazdığı değer - cache miss gibi davran
+            return null;
+        }
+
+        try {
+            InputStream payload = new ByteArrayInputStream(bytes, 3, bytes.length - 3);
+            if ((bytes[2] & FLAG_COMPRESSED) != 0) {
+                // Tek seferde açılır; DataInputStream'in bayt bayt okumaları inflate'e gitmez
+                Inflater inflater = INFLATERS.get();
+                inflater.reset();
+                payload = new ByteArrayInputStream(new InflaterInputStream(payload, inflater).readAllBytes());
+            }
+            try (BinaryInput in = new BinaryInput(payload)) {
+                return readValue(in);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Cannot decode cache value", e);
+        }
+    }
+
+    private boolean supports(Object value) {
+        if (value instanceof CacheEnvelope envelope) {
+            return envelope.getValue() != null && supports(envelope.getValue());
+        }
+        if (value instanceof Page<?> page) {
+            Class<?> elementType = null;
+            for (Object element : page.getContent()) {
+                if (element == null || (elementType != null && element.getClass() != elementType)) {
+                    return false;
+                }
+                elementType = element.getClass();
+            }
+            return elementType == null || codecsByType.containsKey(elementType);
+        }
+        return codecsByType.containsKey(value.getClass());
+    }
+
+    private void writeValue(Object value, BinaryOutput out) throws IOException {
+        if (value instanceof CacheEnvelope envelope) {
+            out.writeByte(ENVELOPE_TAG);
+            out.writeLong(envelope.getRefreshAt());
+            writeValue(envelope.getValue(), out);
+            return;
+        }
+        if (value instanceof Page<?> page) {
+            out.writeByte(PAGE_TAG);
+            out.writeInt(page.getNumber());
+            out.writeInt(page.getSize());
+            out.writeLong(page.getTotalElements());
+            out.writeInt(page.getNumberOfElements());
+            if (page.hasContent()) {
+                CacheValueCodec<Object> codec = codecFor(page.getContent().get(0).getClass());
+                out.writeByte(codec.tag());
+                for (Object element : page.getContent()) {
+                    codec.write(element, out);
+                }
+            } else {
+                out.writeByte(EMPTY_TAG);
+            }
+            return;
+        }
+
+        CacheValueCodec<Object> codec = codecFor(value.getClass());
+        out.writeByte(codec.tag());
+        codec.write(value, out);
+    }
+
+    private Object readValue(BinaryInput in) throws IOException {
+        byte tag = in.readByte();
+        if (tag == ENVELOPE_TAG) {
+            long refreshAt = in.readLong();
+            return new CacheEnvelope(readValue(in), refreshAt);
+        }
+        if (tag != PAGE_TAG) {
+            return codecFor(tag).read(in);
+        }
+
+        int number = in.readInt();
+        int size = in.readInt();
+        long total = in.readLong();
+        int count = in.readInt();
+        byte elementTag = in.readByte();
+        List<Object> content = new ArrayList<>(count);
+        if (elementTag != EMPTY_TAG) {
+            CacheValueCodec<Object> codec = codecFor(elementTag);
+            for (int i = 0; i < count; i++) {
+                content.add(codec.read(in));
+            }
+        }
+        return new RestPage<>(content, PageRequest.of(number, Math.max(size, 1)), total);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheValueCodec<Object> codecFor(Class<?> type) {
+        return (CacheValueCodec<Object>) codecsByType.get(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheValueCodec<Object> codecFor(byte tag) throws IOException {
+        CacheValueCodec<Object> codec = (CacheValueCodec<Object>) codecsByTag.get(tag);
+        if (codec == null) {
+            throw new IOException("Unknown cache value tag " + tag);
+        }
+        return codec;
+    }
+}
@@ -0,0 +1,48 @@
+package net.fenerbahcesozluk.cache.codec;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Counterpart of {@link BinaryOutput}.
+ */
+public class BinaryInput extends DataInputStream {
+
+    public BinaryInput(InputStream in) {
+        super(in);
+    }
+
+    public String readNullableString() throws IOException {
+        if (!readBoolean()) {
+            return null;
+        }
+        byte[] bytes = new byte[readInt()];
+        readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public UUID readNullableUuid() throws IOException {
+        return readBoolean() ? new UUID(readLong(), readLong()) : null;
+    }
+
+    public Integer readNullableInt() throws IOException {
+        return readBoolean() ? readInt() : null;
+    }
+
+    public Long readNullableLong() throws IOException {
+        return readBoolean() ? readLong() : null;
+    }
+
+    public LocalDateTime readNullableDateTime() throws IOException {
+        if (!readBoolean()) {
+            return null;
+        }
+        long epochSecond = readLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, readInt(), ZoneOffset.UTC);
+    }
+}
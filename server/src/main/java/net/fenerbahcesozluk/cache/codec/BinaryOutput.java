@@ -0,0 +1,60 @@
+package net.fenerbahcesozluk.cache.codec;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * {@link DataOutputStream} with helpers for nullable fields used by the DTO
+ * codecs. Every nullable value is prefixed with a presence flag.
+ */
+public class BinaryOutput extends DataOutputStream {
+
+    public BinaryOutput(OutputStream out) {
+        super(out);
+    }
+
+    public void writeNullableString(String value) throws IOException {
+        writeBoolean(value != null);
+        if (value != null) {
+            // writeUTF is limited to 64 KB, kunye_data can be longer
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(bytes.length);
+            write(bytes);
+        }
+    }
+
+    public void writeNullableUuid(UUID value) throws IOException {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeLong(value.getMostSignificantBits());
+            writeLong(value.getLeastSignificantBits());
+        }
+    }
+
+    public void writeNullableInt(Integer value) throws IOException {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeInt(value);
+        }
+    }
+
+    public void writeNullableLong(Long value) throws IOException {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeLong(value);
+        }
+    }
+
+    public void writeNullableDateTime(LocalDateTime value) throws IOException {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            writeInt(value.getNano());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package net.fenerbahcesozluk.cache.codec;
+
+import java.io.IOException;
+
+/**
+ * Binary codec for one cached value type. Each codec owns a unique tag that is
+ * written in front of the payload, so the tag must never be reused for another
+ * type. Add fields only at the end and bump {@link BinaryCacheSerializer}'s
+ * format version when the layout changes.
+ */
+public interface CacheValueCodec<T> {
+
+    byte tag();
+
+    Class<T> type();
+
+    void write(T value, BinaryOutput out) throws IOException;
+
+    T read(BinaryInput in) throws IOException;
+}
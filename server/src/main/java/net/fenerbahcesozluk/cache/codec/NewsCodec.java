@@ -0,0 +1,50 @@
+package net.fenerbahcesozluk.cache.codec;
+
+import net.fenerbahcesozluk.entity.News;
+
+import java.io.IOException;
+
+public class NewsCodec implements CacheValueCodec<News> {
+
+    @Override
+    public byte tag() {
+        return 4;
+    }
+
+    @Override
+    public Class<News> type() {
+        return News.class;
+    }
+
+    @Override
+    public void write(News news, BinaryOutput out) throws IOException {
+        out.writeNullableUuid(news.getId());
+        out.writeNullableLong(news.getVersion());
+        out.writeNullableDateTime(news.getCreatedAt());
+        out.writeNullableDateTime(news.getUpdatedAt());
+        out.writeNullableString(news.getTitle());
+        out.writeNullableString(news.getLink());
+        out.writeNullableString(news.getDescription());
+        out.writeNullableString(news.getImageUrl());
+        out.writeNullableString(news.getSource());
+        out.writeNullableDateTime(news.getPubDate());
+        out.writeNullableString(news.getGuid());
+    }
+
+    @Override
+    public News read(BinaryInput in) throws IOException {
+        News news = new News();
+        news.setId(in.readNullableUuid());
+        news.setVersion(in.readNullableLong());
+        news.setCreatedAt(in.readNullableDateTime());
+        news.setUpdatedAt(in.readNullableDateTime());
+        news.setTitle(in.readNullableString());
+        news.setLink(in.readNullableString());
+        news.setDescription(in.readNullableString());
+        news.setImageUrl(in.readNullableString());
+        news.setSource(in.readNullableString());
+        news.setPubDate(in.readNullableDateTime());
+        news.setGuid(in.readNullableString());
+        return news;
+    }
+}
@@ -0,0 +1,68 @@
+package net.fenerbahcesozluk.cache.codec;
+
+import net.fenerbahcesozluk.dto.StatsResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class StatsResponseCodec implements CacheValueCodec<StatsResponse> {
+
+    @Override
+    public byte tag() {
+        return 3;
+    }
+
+    @Override
+    public Class<StatsResponse> type() {
+        return StatsResponse.class;
+    }
+
+    @Override
+    public void write(StatsResponse stats, BinaryOutput out) throws IOException {
+        out.writeLong(stats.getTotalEntries());
+        out.writeLong(stats.getTotalAuthors());
+        out.writeLong(stats.getTotalTopics());
+        out.writeLong(stats.getTotalLikes());
+        out.writeLong(stats.getTotalDislikes());
+        out.writeLong(stats.getTotalFavorites());
+
+        List<StatsResponse.TopAuthor> authors = stats.getTopAuthors() != null ? stats.getTopAuthors() : List.of();
+        out.writeInt(authors.size());
+        for (StatsResponse.TopAuthor author : authors) {
+            out.writeNullableString(author.getUsername());
+            out.writeLong(author.getEntryCount());
+        }
+
+        List<StatsResponse.TopTopic> topics = stats.getTopTopics() != null ? stats.getTopTopics() : List.of();
+        out.writeInt(topics.size());
+        for (StatsResponse.TopTopic topic : topics) {
+            out.writeNullableString(topic.getId());
+            out.writeNullableString(topic.getTitle());
+            out.writeLong(topic.getEntryCount());
+        }
+    }
+
+    @Override
+    public StatsResponse read(BinaryInput in) throws IOException {
+        StatsResponse stats = StatsResponse.builder().totalEntries(in.readLong()).totalAuthors(in.readLong())
+                .totalTopics(in.readLong()).totalLikes(in.readLong()).totalDislikes(in.readLong())
+                .totalFavorites(in.readLong()).build();
+
+        int authorCount = in.readInt();
+        List<StatsResponse.TopAuthor> authors = new ArrayList<>(authorCount);
+        for (int i = 0; i < authorCount; i++) {
+            authors.add(new StatsResponse.TopAuthor(in.readNullableString(), in.readLong()));
+        }
+
+        int topicCount = in.readInt();
+        List<StatsResponse.TopTopic> topics = new ArrayList<>(topicCount);
+        for (int i = 0; i < topicCount; i++) {
+            topics.add(new StatsResponse.TopTopic(in.readNullableString(), in.readNullableString(), in.readLong()));
+        }
+
+        stats.setTopAuthors(authors);
+        stats.setTopTopics(topics);
+        return stats;
+    }
+}
@@ -0,0 +1,50 @@
+package net.fenerbahcesozluk.cache.codec;
+
+import net.fenerbahcesozluk.dto.TopicResponse;
+
+import java.io.IOException;
+
+public class TopicResponseCodec implements CacheValueCodec<TopicResponse> {
+
+    @Override
+    public byte tag() {
+        return 2;
+    }
+
+    @Override
+    public Class<TopicResponse> type() {
+        return TopicResponse.class;
+    }
+
+    @Override
+    public void write(TopicResponse topic, BinaryOutput out) throws IOException {
+        out.writeNullableUuid(topic.getId());
+        out.writeNullableString(topic.getTitle());
+        out.writeNullableString(topic.getAuthorUsername());
+        out.writeNullableUuid(topic.getAuthorId());
+        out.writeNullableInt(topic.getEntryCount());
+        out.writeNullableInt(topic.getTodayEntryCount());
+        out.writeNullableInt(topic.getYesterdayEntryCount());
+        out.writeNullableInt(topic.getOlderEntryCount());
+        out.writeNullableLong(topic.getViewCount());
+        out.writeBoolean(topic.isLocked());
+        out.writeBoolean(topic.isPinned());
+        out.writeNullableString(topic.getKunyeImageUrl());
+        out.writeNullableString(topic.getKunyeData());
+        out.writeNullableDateTime(topic.getCreatedAt());
+        out.writeNullableDateTime(topic.getUpdatedAt());
+        out.writeNullableDateTime(topic.getLastActivityAt());
+    }
+
+    @Override
+    public TopicResponse read(BinaryInput in) throws IOException {
+        return TopicResponse.builder().id(in.readNullableUuid()).title(in.readNullableString())
+                .authorUsername(in.readNullableString()).authorId(in.readNullableUuid())
+                .entryCount(in.readNullableInt()).todayEntryCount(in.readNullableInt())
+                .yesterdayEntryCount(in.readNullableInt()).olderEntryCount(in.readNullableInt())
+                .viewCount(in.readNullableLong()).isLocked(in.readBoolean()).isPinned(in.readBoolean())
+                .kunyeImageUrl(in.readNullableString()).kunyeData(in.readNullableString())
+                .createdAt(in.readNullableDateTime()).updatedAt(in.readNullableDateTime())
+                .lastActivityAt(in.readNullableDateTime()).build();
+    }
+}
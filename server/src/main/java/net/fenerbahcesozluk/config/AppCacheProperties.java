@@ -0,0 +1,82 @@
+package net.fenerbahcesozluk.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache ayarları (app.cache). Her cache için Redis (L2) TTL'i ile node içi
+ * (L1) boyut ve TTL ayrı ayrı verilebilir. softTtl verilen cache'lerde bu
+ * süreden sonra eski değer sunulur ve arka planda yenilenir.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class AppCacheProperties {
+
+    private Duration defaultTtl = Duration.ofHours(1);
+
+    // Bu boyutu aşan ikili cache değerleri deflate ile sıkıştırılır
+    private int compressionThresholdBytes = 1024;
+
+    // TTL'ler bu oranda (±) rastgele kaydırılır
+    private double ttlJitter = 0.1;
+
+    private Refresh refresh = new Refresh();
+
+    // Etiket set'lerinin ömrü; en uzun hard TTL'den uzun olmalı
+    private Duration tagTtl = Duration.ofHours(3);
+
+    private Breaker breaker = new Breaker();
+
+    private Responses responses = new Responses();
+
+    private Spec defaults = new Spec();
+
+    private Map<String, Spec> caches = new HashMap<>();
+
+    @Data
+    public static class Spec {
+        // Redis (L2) TTL; boşsa defaultTtl
+        private Duration ttl;
+        // Yenileme zamanı; boşsa değer hard TTL'e kadar taze sayılır
+        private Duration softTtl;
+        private long localMaxSize = 100;
+        private Duration localTtl = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Refresh {
+        private int threads = 2;
+        private int queueCapacity = 32;
+    }
+
+    // Redis hataları üst üste failureThreshold'a ulaşınca cache'ler openDuration
+    // boyunca yalnızca L1 ile çalışır
+    @Data
+    public static class Breaker {
+        private int failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(10);
+    }
+
+    // ResponseCacheFilter: uç (URI) -> yanıt baytlarının node içi TTL'i
+    @Data
+    public static class Responses {
+        private Map<String, Duration> routes = new HashMap<>();
+        private long maxBytes = 16 * 1024 * 1024;
+        private int gzipMinBytes = 1024;
+    }
+
+    public Spec specFor(String cacheName) {
+        return caches.getOrDefault(cacheName, defaults);
+    }
+
+    public Duration ttlFor(String cacheName) {
+        Duration ttl = specFor(cacheName).getTtl();
+        return ttl != null ? ttl : defaultTtl;
+    }
+}
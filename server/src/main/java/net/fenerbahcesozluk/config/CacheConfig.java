@@ -4,43 +4,142 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.fenerbahcesozluk.cache.CacheTagIndex;
+import net.fenerbahcesozluk.cache.EntityCacheSync;
+import net.fenerbahcesozluk.cache.PrincipalCache;
+import net.fenerbahcesozluk.cache.JitteredTtl;
+import net.fenerbahcesozluk.cache.RedisCircuitBreaker;
+import net.fenerbahcesozluk.cache.RefreshAheadCacheManager;
+import net.fenerbahcesozluk.cache.SingleFlightCacheManager;
+import net.fenerbahcesozluk.cache.TwoLevelCacheManager;
+import net.fenerbahcesozluk.cache.codec.BinaryCacheSerializer;
+import net.fenerbahcesozluk.cache.codec.NewsCodec;
+import net.fenerbahcesozluk.cache.codec.StatsResponseCodec;
+import net.fenerbahcesozluk.cache.codec.TopicResponseCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.List;
 
 @Configuration
 @EnableCaching
-public class CacheConfig {
+public class CacheConfig implements CachingConfigurer {
 
-    @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    private static final List<String> CACHE_NAMES = List.of("stats_v2", "trendingTopics_v2", "popularTopics_v2",
+            "news_v2");
+
+    @Value("${app.cache.single-flight.distributed:false}")
+    private boolean distributedSingleFlight;
+
+    @Value("${app.cache.single-flight.lock-timeout-ms:10000}")
+    private long singleFlightLockTimeoutMs;
+
+    /**
+     * Bilinen DTO'lar ikili formatta yazılır; diğerleri ve eski JSON kayıtlar
+     * Jackson serializer ile okunur.
+     */
+    public static BinaryCacheSerializer cacheValueSerializer(int compressionThresholdBytes) {
+        return new BinaryCacheSerializer(List.of(new TopicResponseCodec(), new StatsResponseCodec(), new NewsCodec()),
+                jsonValueSerializer(), compressionThresholdBytes);
+    }
+
+    // Tip bilgili JSON; ikili codec'i olmayan değerler ve eski kayıtlar için
+    public static GenericJackson2JsonRedisSerializer jsonValueSerializer() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.NON_FINAL,
                 JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
 
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+    /**
+     * Redis (L2) önünde node içi Caffeine (L1) önbelleği. TTL ve L1 boyutları
+     * app.cache.caches altında cache başına ayarlanır.
+     */
+    @Bean
+    public TwoLevelCacheManager twoLevelCacheManager(RedisConnectionFactory connectionFactory,
+            StringRedisTemplate redisTemplate, AppCacheProperties cacheProperties, MeterRegistry meterRegistry,
+            CacheTagIndex cacheTagIndex, RedisCircuitBreaker redisCircuitBreaker) {
+        BinaryCacheSerializer serializer = cacheValueSerializer(cacheProperties.getCompressionThresholdBytes());
 
-        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(5))
+        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(cacheProperties.getDefaultTtl())
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
 
-        RedisCacheConfiguration defaultTtlConfig = config.entryTtl(Duration.ofHours(1));
-        RedisCacheConfiguration shortTtlConfig = config.entryTtl(Duration.ofMinutes(15));
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(config);
+        for (String cacheName : CACHE_NAMES) {
+            builder.withCacheConfiguration(cacheName, config
+                    .entryTtl(new JitteredTtl(cacheProperties.ttlFor(cacheName), cacheProperties.getTtlJitter())));
+        }
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(redisCacheManager, cacheProperties, redisTemplate, meterRegistry,
+                cacheTagIndex, redisCircuitBreaker);
+    }
+
+    // Redis erişilemezken cache çağrıları beklemeden L1'e düşer
+    @Bean
+    public RedisCircuitBreaker redisCircuitBreaker(AppCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        AppCacheProperties.Breaker breaker = cacheProperties.getBreaker();
+        return new RedisCircuitBreaker(breaker.getFailureThreshold(), breaker.getOpenDuration(), meterRegistry);
+    }
+
+    // Cache katmanından kaçan hatalar isteği düşürmez; metot doğrudan çalışır
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
+    }
 
-        return RedisCacheManager.builder(connectionFactory).cacheDefaults(defaultTtlConfig)
-                .withCacheConfiguration("stats_v2", defaultTtlConfig)
-                .withCacheConfiguration("trendingTopics_v2", shortTtlConfig)
-                .withCacheConfiguration("popularTopics_v2", shortTtlConfig)
-                .withCacheConfiguration("news_v2", defaultTtlConfig).build();
+    // Kayıtların içerdiği başlık/yazar etiketleri; CacheInvalidationService kullanır
+    @Bean
+    public CacheTagIndex cacheTagIndex(StringRedisTemplate redisTemplate, RedisCircuitBreaker redisCircuitBreaker,
+            AppCacheProperties cacheProperties) {
+        return new CacheTagIndex(redisTemplate, redisCircuitBreaker, cacheProperties.getTagTtl());
+    }
+
+    // Aynı anahtar için tek yükleme (@Cacheable(sync = true)); istenirse tüm
+    // node'lar arasında Redis kilidiyle. Dışta soft TTL sonrası arka plan yenileme
+    @Bean
+    @Primary
+    public CacheManager cacheManager(TwoLevelCacheManager twoLevelCacheManager, StringRedisTemplate redisTemplate,
+            RedisCircuitBreaker redisCircuitBreaker, AppCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        SingleFlightCacheManager singleFlight = new SingleFlightCacheManager(twoLevelCacheManager,
+                distributedSingleFlight ? redisTemplate : null, redisCircuitBreaker,
+                Duration.ofMillis(singleFlightLockTimeoutMs), meterRegistry);
+        return new RefreshAheadCacheManager(singleFlight, cacheProperties, meterRegistry);
+    }
+
+    // Diğer node'lardan gelen cache ve entity cache silme mesajlarını dinler
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+            TwoLevelCacheManager twoLevelCacheManager, EntityCacheSync entityCacheSync, PrincipalCache principalCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(twoLevelCacheManager, new ChannelTopic(TwoLevelCacheManager.CHANNEL));
+        container.addMessageListener(entityCacheSync, new ChannelTopic(EntityCacheSync.CHANNEL));
+        container.addMessageListener(principalCache, new ChannelTopic(PrincipalCache.CHANNEL));
+        return container;
     }
 }
@@ -0,0 +1,115 @@
+package net.fenerbahcesozluk.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.fenerbahcesozluk.dto.ErrorResponse;
+import net.fenerbahcesozluk.entity.User;
+import net.fenerbahcesozluk.ratelimit.RateLimitDecision;
+import net.fenerbahcesozluk.service.RateLimitService;
+import net.fenerbahcesozluk.util.HttpUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * app.rate-limit altında method ve path'i verilen limitleri uygular. JWT
+ * filtresinden sonra, Spring MVC gövdeyi okumadan önce çalışır; reddedilen
+ * istek controller'a ulaşmaz. Tek bir kova işlemiyle RateLimit-* başlıkları,
+ * red durumunda Retry-After yazılır.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitService rateLimitService;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper pathHelper = new UrlPathHelper();
+    private final List<Route> routes = new ArrayList<>();
+
+    public RateLimitFilter(RateLimitProperties properties, RateLimitService rateLimitService,
+            ObjectMapper objectMapper) {
+        this.rateLimitService = rateLimitService;
+        this.objectMapper = objectMapper;
+        // Spring MVC'nin eşleştirdiği yol: %6C gibi kodlanmış karakterler ve ;param
+        // kısımları çözülmüş haliyle karşılaştırılır, limit atlatılamaz
+        pathHelper.setAlwaysUseFullPath(true);
+        pathHelper.setUrlDecode(true);
+        pathHelper.setRemoveSemicolonContent(true);
+        properties.getLimits().forEach((name, limit) -> {
+            if (limit.getPath() != null) {
+                routes.add(new Route(name, limit));
+            }
+        });
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        Route route = match(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitDecision decision = rateLimitService.tryAcquire(route.name(), clientKey(route, request));
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.resetSeconds()));
+
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfter = decision.retryAfterSeconds();
+        ErrorResponse body = ErrorResponse.builder().timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value()).error("Çok Fazla İstek")
+                .message(route.limit().getMessage() + " Lütfen " + retryAfter + " saniye sonra tekrar deneyin.")
+                .build();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private Route match(HttpServletRequest request) {
+        String path = pathHelper.getLookupPathForRequest(request);
+        for (Route route : routes) {
+            String method = route.limit().getMethod();
+            if ((method == null || method.equalsIgnoreCase(request.getMethod()))
+                    && pathMatcher.match(route.limit().getPath(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static String clientKey(Route route, HttpServletRequest request) {
+        if (route.limit().getKey() == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof User user) {
+                return "u:" + user.getId();
+            }
+        }
+        return HttpUtils.getClientIp(request);
+    }
+
+    private record Route(String name, RateLimitProperties.Limit limit) {
+    }
+}
@@ -0,0 +1,64 @@
+package net.fenerbahcesozluk.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hız sınırı ayarları (app.rate-limit). Her limit period başına capacity
+ * istek verir; kova sürekli dolar, pencere sınırında iki katı patlama olmaz.
+ * backend verilmeyen limitler varsayılan backend'i kullanır.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    public enum KeyType {
+        IP,
+        // Giriş yapmış kullanıcı; anonim isteklerde IP
+        USER
+    }
+
+    public enum Backend {
+        // Node içi; her replika ayrı sayar
+        LOCAL,
+        // Tüm replikalar ortak sayar; Redis yoksa LOCAL'e düşer
+        REDIS
+    }
+
+    private Backend backend = Backend.REDIS;
+
+    private String keyPrefix = "ratelimit:";
+
+    private Local local = new Local();
+
+    private Map<String, Limit> limits = new HashMap<>();
+
+    // method + path verilen limitler RateLimitFilter tarafından uygulanır
+    @Data
+    public static class Limit {
+        private int capacity;
+        private Duration period;
+        private Backend backend;
+        private String method;
+        private String path;
+        private KeyType key = KeyType.IP;
+        private String message = "Çok fazla istek gönderdiniz.";
+    }
+
+    // Node içi store; dolunca en eski kovalar çıkarılır
+    @Data
+    public static class Local {
+        private int capacity = 65536;
+        private int segments = 16;
+    }
+
+    public Backend backendFor(Limit limit) {
+        return limit.getBackend() != null ? limit.getBackend() : backend;
+    }
+}
@@ -0,0 +1,164 @@
+package net.fenerbahcesozluk.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Herkese açık, kullanıcıdan bağımsız GET uçlarının son JSON çıktısını node
+ * içinde bayt olarak saklar (app.cache.responses). İsabetlerde Jackson hiç
+ * çalışmaz; istemci kabul ediyorsa önceden sıkıştırılmış gövde gönderilir.
+ * TTL'ler kısa tutulur, değişiklikler en geç TTL sonunda görünür.
+ */
+@Component
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+
+    // Önbelleğe alınan uçların okuduğu parametreler (Pageable); diğerleri anahtara
+    // girmez, rastgele parametrelerle cache doldurulamaz
+    private static final List<String> KEY_PARAMS = List.of("page", "size", "sort");
+
+    private final AppCacheProperties.Responses properties;
+    private final Cache<String, CachedResponse> responses;
+    private final UrlPathHelper pathHelper = new UrlPathHelper();
+
+    public ResponseCacheFilter(AppCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.properties = cacheProperties.getResponses();
+        this.responses = Caffeine.newBuilder().maximumWeight(properties.getMaxBytes())
+                .weigher((String key, CachedResponse value) -> value.weight()).expireAfter(new RouteExpiry())
+                .recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "http_responses", Tags.of("level", "response"));
+        // RateLimitFilter ile aynı: Spring MVC'nin eşleştirdiği çözülmüş yol
+        pathHelper.setAlwaysUseFullPath(true);
+        pathHelper.setUrlDecode(true);
+        pathHelper.setRemoveSemicolonContent(true);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+                || !properties.getRoutes().containsKey(pathHelper.getLookupPathForRequest(request));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String route = pathHelper.getLookupPathForRequest(request);
+        String key = cacheKey(route, request);
+
+        CachedResponse cached = responses.getIfPresent(key);
+        if (cached != null) {
+            write(cached, request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        String contentType = wrapper.getContentType();
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || contentType == null
+                || !MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] body = wrapper.getContentAsByteArray();
+        CachedResponse fresh = new CachedResponse(route, body,
+                body.length >= properties.getGzipMinBytes() ? gzip(body) : null);
+        responses.put(key, fresh);
+
+        // Sarmalayıcıdaki gövde bırakılır, yanıt diğer isabetlerle aynı yoldan yazılır
+        wrapper.resetBuffer();
+        write(fresh, request, response);
+    }
+
+    private static String cacheKey(String route, HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(route);
+        char separator = '?';
+        for (String name : KEY_PARAMS) {
+            String[] values = request.getParameterValues(name);
+            if (values == null) {
+                continue;
+            }
+            for (String value : values) {
+                key.append(separator).append(name).append('=').append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    private void write(CachedResponse cached, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        byte[] body = cached.body();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (cached.gzipped() != null && acceptEncoding != null && acceptEncoding.contains(GZIP)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            body = cached.gzipped();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(body);
+        }
+        return buffer.toByteArray();
+    }
+
+    private record CachedResponse(String route, byte[] body, byte[] gzipped) {
+
+        int weight() {
+            return body.length + (gzipped != null ? gzipped.length : 0);
+        }
+    }
+
+    // Her uç kendi TTL'i ile saklanır
+    private class RouteExpiry implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            Duration ttl = properties.getRoutes().get(value.route());
+            return ttl != null ? ttl.toNanos() : 0;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -35,6 +35,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final UserRepository userRepository;
 
     @Value("${cors.allowed-origins:http://localhost:5173}")
@@ -47,6 +48,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/**", "/api/public/**", "/ws/**", "/error", "/actuator/health",
                                 "/sitemap.xml", "/robots.txt")
                         .permitAll()
+                        // Metrics and other actuator endpoints are admin only
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // Public read endpoints (GET only)
                         .requestMatchers(HttpMethod.GET, "/api/topics/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/entries/**").permitAll()
@@ -55,7 +58,9 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/news/**").permitAll().anyRequest().authenticated())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                // Kullanıcı bazlı limitler için kimlik doğrulamadan sonra
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -1,6 +1,5 @@
 package net.fenerbahcesozluk.controller;
 
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import net.fenerbahcesozluk.dto.AuthResponse;
@@ -8,10 +7,7 @@ import net.fenerbahcesozluk.dto.ForgotPasswordRequest;
 import net.fenerbahcesozluk.dto.LoginRequest;
 import net.fenerbahcesozluk.dto.RegisterRequest;
 import net.fenerbahcesozluk.dto.ResetPasswordRequest;
-import net.fenerbahcesozluk.exception.RateLimitExceededException;
 import net.fenerbahcesozluk.service.AuthService;
-import net.fenerbahcesozluk.service.RateLimitService;
-import net.fenerbahcesozluk.util.HttpUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -28,48 +24,19 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
-    private final RateLimitService rateLimitService;
 
     @PostMapping("/register")
-    public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request,
-            HttpServletRequest httpRequest) {
-        String clientIp = HttpUtils.getClientIp(httpRequest);
-
-        if (!rateLimitService.isAllowed("register", clientIp)) {
-            long retryAfter = rateLimitService.getSecondsUntilReset("register", clientIp);
-            throw new RateLimitExceededException(
-                    "Çok fazla kayıt denemesi. Lütfen " + retryAfter + " saniye sonra tekrar deneyin.", retryAfter);
-        }
-
+    public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
         return ResponseEntity.ok(authService.register(request));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request,
-            HttpServletRequest httpRequest) {
-        String clientIp = HttpUtils.getClientIp(httpRequest);
-
-        if (!rateLimitService.isAllowed("login", clientIp)) {
-            long retryAfter = rateLimitService.getSecondsUntilReset("login", clientIp);
-            throw new RateLimitExceededException(
-                    "Çok fazla giriş denemesi. Lütfen " + retryAfter + " saniye sonra tekrar deneyin.", retryAfter);
-        }
-
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
         return ResponseEntity.ok(authService.login(request));
     }
 
     @PostMapping("/forgot-password")
-    public ResponseEntity<Map<String, String>> forgotPassword(@Valid @RequestBody ForgotPasswordRequest request,
-            HttpServletRequest httpRequest) {
-        String clientIp = HttpUtils.getClientIp(httpRequest);
-
-        if (!rateLimitService.isAllowed("forgot-password", clientIp)) {
-            long retryAfter = rateLimitService.getSecondsUntilReset("forgot-password", clientIp);
-            throw new RateLimitExceededException(
-                    "Çok fazla şifre sıfırlama talebi. Lütfen " + retryAfter + " saniye sonra tekrar deneyin.",
-                    retryAfter);
-        }
-
+    public ResponseEntity<Map<String, String>> forgotPassword(@Valid @RequestBody ForgotPasswordRequest request) {
         authService.forgotPassword(request);
 
         // Always return success message to prevent email enumeration
@@ -1,15 +1,12 @@
 package net.fenerbahcesozluk.controller;
 
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import net.fenerbahcesozluk.dto.CursorPage;
 import net.fenerbahcesozluk.dto.EntryRequest;
 import net.fenerbahcesozluk.dto.EntryResponse;
 import net.fenerbahcesozluk.entity.User;
-import net.fenerbahcesozluk.exception.RateLimitExceededException;
 import net.fenerbahcesozluk.service.EntryService;
-import net.fenerbahcesozluk.service.RateLimitService;
-import net.fenerbahcesozluk.util.HttpUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -36,7 +33,6 @@ import java.util.UUID;
 public class EntryController {
 
     private final EntryService entryService;
-    private final RateLimitService rateLimitService;
 
     @GetMapping("/topic/{topicId}")
     public ResponseEntity<Page<EntryResponse>> getEntriesByTopic(@PathVariable UUID topicId,
@@ -46,6 +42,13 @@ public class EntryController {
                 .ok(entryService.getEntriesByTopicWithDateFilter(topicId, dateFilter, currentUser, pageable));
     }
 
+    @GetMapping("/topic/{topicId}/cursor")
+    public ResponseEntity<CursorPage<EntryResponse>> getEntriesByTopicCursor(@PathVariable UUID topicId,
+            @RequestParam(required = false) String dateFilter, @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size, @AuthenticationPrincipal User currentUser) {
+        return ResponseEntity.ok(entryService.getEntriesByTopicCursor(topicId, dateFilter, cursor, size, currentUser));
+    }
+
     @GetMapping("/author/{authorId}")
     public ResponseEntity<Page<EntryResponse>> getEntriesByAuthor(@PathVariable UUID authorId,
             @AuthenticationPrincipal User currentUser, @PageableDefault(size = 20) Pageable pageable) {
@@ -105,15 +108,7 @@ public class EntryController {
 
     @PostMapping
     public ResponseEntity<EntryResponse> createEntry(@Valid @RequestBody EntryRequest request,
-            @AuthenticationPrincipal User currentUser, HttpServletRequest httpRequest) {
-        String clientIp = HttpUtils.getClientIp(httpRequest);
-
-        if (!rateLimitService.isAllowed("entry-create", clientIp)) {
-            long retryAfter = rateLimitService.getSecondsUntilReset("entry-create", clientIp);
-            throw new RateLimitExceededException(
-                    "Çok fazla entry yazdınız. Lütfen " + retryAfter + " saniye sonra tekrar deneyin.", retryAfter);
-        }
-
+            @AuthenticationPrincipal User currentUser) {
         return ResponseEntity.ok(entryService.createEntry(request, currentUser));
     }
 
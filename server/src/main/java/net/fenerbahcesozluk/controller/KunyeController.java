@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import net.fenerbahcesozluk.entity.Topic;
 import net.fenerbahcesozluk.exception.BusinessException;
 import net.fenerbahcesozluk.repository.TopicRepository;
+import net.fenerbahcesozluk.service.CacheInvalidationService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,6 +23,7 @@ import java.util.UUID;
 public class KunyeController {
 
     private final TopicRepository topicRepository;
+    private final CacheInvalidationService cacheInvalidationService;
 
     @PostMapping("/topics/{topicId}")
     public ResponseEntity<?> saveKunye(@PathVariable UUID topicId, @RequestBody Map<String, String> request) {
@@ -35,6 +37,7 @@ public class KunyeController {
         topic.setKunyeImageUrl(imageUrl);
         topic.setKunyeData(kunyeData);
         topicRepository.save(topic);
+        cacheInvalidationService.invalidateTopic(topicId);
 
         return ResponseEntity.ok(Map.of("success", true));
     }
@@ -47,6 +50,7 @@ public class KunyeController {
         topic.setKunyeImageUrl(null);
         topic.setKunyeData(null);
         topicRepository.save(topic);
+        cacheInvalidationService.invalidateTopic(topicId);
 
         return ResponseEntity.ok(Map.of("success", true));
     }
@@ -0,0 +1,26 @@
+package net.fenerbahcesozluk.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Keyset (cursor) sayfası. Cursor değerleri opak string'lerdir; istemci bunları
+ * olduğu gibi bir sonraki isteğe geri gönderir.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private String prevCursor;
+    private boolean hasNext;
+    private boolean hasPrevious;
+}
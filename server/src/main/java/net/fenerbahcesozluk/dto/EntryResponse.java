@@ -28,4 +28,13 @@ public class EntryResponse {
     private VoteType currentUserVote;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // JPQL constructor expression for listing queries; currentUserVote is
+    // filled in afterwards from a single batch lookup
+    public EntryResponse(UUID id, String content, UUID topicId, String topicTitle, String authorUsername,
+            UUID authorId, Integer likeCount, Integer dislikeCount, Integer favoriteCount, boolean isEdited,
+            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, content, topicId, topicTitle, authorUsername, authorId, likeCount, dislikeCount, favoriteCount,
+                isEdited, null, createdAt, updatedAt);
+    }
 }
@@ -0,0 +1,11 @@
+package net.fenerbahcesozluk.dto;
+
+import net.fenerbahcesozluk.enums.VoteType;
+
+import java.util.UUID;
+
+/**
+ * Entry'nin varlığı ile kullanıcının o entry'deki oyu; oy yoksa voteType null.
+ */
+public record EntryVoteState(UUID entryId, VoteType voteType) {
+}
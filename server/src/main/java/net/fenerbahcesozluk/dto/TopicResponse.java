@@ -30,4 +30,13 @@ public class TopicResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime lastActivityAt;
+
+    // JPQL constructor expression for listing queries; date counts are filled in
+    // afterwards where needed
+    public TopicResponse(UUID id, String title, String authorUsername, UUID authorId, Integer entryCount,
+            Long viewCount, boolean isLocked, boolean isPinned, String kunyeImageUrl, String kunyeData,
+            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, authorUsername, authorId, entryCount, null, null, null, viewCount, isLocked, isPinned,
+                kunyeImageUrl, kunyeData, createdAt, updatedAt, updatedAt);
+    }
 }
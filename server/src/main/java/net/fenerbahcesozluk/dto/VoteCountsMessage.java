@@ -0,0 +1,21 @@
+package net.fenerbahcesozluk.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * /topic/entries/{topicId} kanalına giden oy sayısı güncellemesi: pencere
+ * içinde oyu değişen entry'lerin güncel sayıları. Yeni entry mesajlarından
+ * {@code type} alanı ile ayrılır.
+ */
+public record VoteCountsMessage(String type, List<Counts> counts) {
+
+    public static final String TYPE = "votes";
+
+    public VoteCountsMessage(List<Counts> counts) {
+        this(TYPE, counts);
+    }
+
+    public record Counts(UUID id, Integer likeCount, Integer dislikeCount, Integer favoriteCount) {
+    }
+}
@@ -3,6 +3,7 @@ package net.fenerbahcesozluk.entity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -14,6 +15,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import net.fenerbahcesozluk.cache.EntityCacheSync;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -24,6 +28,8 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "topics")
+@EntityListeners(EntityCacheSync.class)
 @Table(name = "topics", indexes = {@Index(name = "idx_topic_active_entrycount", columnList = "is_active, entry_count"),
         @Index(name = "idx_topic_active_created", columnList = "is_active, created_time"),
         @Index(name = "idx_topic_title", columnList = "title")})
@@ -36,11 +42,13 @@ public class Topic extends BaseEntity {
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
 
-    @Column(name = "entry_count")
+    // Sayaçlar yalnızca TopicRepository / TopicViewCountBuffer ile güncellenir;
+    // cache'teki eski değer geri yazılmasın
+    @Column(name = "entry_count", updatable = false)
     @Builder.Default
     private Integer entryCount = 0;
 
-    @Column(name = "view_count")
+    @Column(name = "view_count", updatable = false)
     @Builder.Default
     private Long viewCount = 0L;
 
@@ -0,0 +1,43 @@
+package net.fenerbahcesozluk.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Bir başlığın belirli bir gündeki aktif entry sayısı. Entry ekleme/silme ve
+ * başlık birleştirme sırasında artımlı güncellenir, gece job'ı ile entries
+ * tablosundan yeniden hesaplanır.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "topic_daily_entry_counts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_topic_daily_topic_date", columnNames = {"topic_id", "bucket_date"})})
+public class TopicDailyEntryCount extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "topic_id", nullable = false)
+    private Topic topic;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(name = "entry_count", nullable = false)
+    @Builder.Default
+    private Integer entryCount = 0;
+}
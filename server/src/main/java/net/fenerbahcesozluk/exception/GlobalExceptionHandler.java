@@ -87,15 +87,6 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
     }
 
-    @ExceptionHandler(RateLimitExceededException.class)
-    public ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException ex) {
-        ErrorResponse response = ErrorResponse.builder().timestamp(LocalDateTime.now())
-                .status(HttpStatus.TOO_MANY_REQUESTS.value()).error("Çok Fazla İstek").message(ex.getMessage()).build();
-
-        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
-                .header("Retry-After", String.valueOf(ex.getRetryAfterSeconds())).body(response);
-    }
-
     @ExceptionHandler(UsernameNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleUsernameNotFoundException(UsernameNotFoundException ex) {
         ErrorResponse response = ErrorResponse.builder().timestamp(LocalDateTime.now())
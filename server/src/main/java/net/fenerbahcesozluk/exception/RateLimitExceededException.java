@@ -1,22 +0,0 @@
-package net.fenerbahcesozluk.exception;
-
-import org.springframework.http.HttpStatus;
-import org.springframework.web.bind.annotation.ResponseStatus;
-
-/**
- * Exception thrown when rate limit is exceeded.
- */
-@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
-public class RateLimitExceededException extends RuntimeException {
-
-    private final long retryAfterSeconds;
-
-    public RateLimitExceededException(String message, long retryAfterSeconds) {
-        super(message);
-        this.retryAfterSeconds = retryAfterSeconds;
-    }
-
-    public long getRetryAfterSeconds() {
-        return retryAfterSeconds;
-    }
-}
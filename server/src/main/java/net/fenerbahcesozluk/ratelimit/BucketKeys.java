@@ -0,0 +1,67 @@
+package net.fenerbahcesozluk.ratelimit;
+
+/**
+ * Limit id'si ile istemci kimliğini (IP, kullanıcı...) tek bir long'a paketler;
+ * string birleştirme ya da nesne oluşturulmaz. En üst bayt limit id'sidir. IPv4
+ * adresleri birebir yazılır (bit 55 işaretli), diğer kimlikler 55 bitlik özet
+ * olarak yazılır. Anahtar hiçbir zaman 0 olmaz.
+ */
+final class BucketKeys {
+
+    private static final long EXACT_IPV4 = 1L << 55;
+    private static final long ID_MASK = EXACT_IPV4 - 1;
+
+    private BucketKeys() {
+    }
+
+    static long pack(int limitId, String id) {
+        long ipv4 = parseIpv4(id);
+        long bits = ipv4 >= 0 ? EXACT_IPV4 | ipv4 : hash(id) & ID_MASK;
+        return ((long) limitId << 56) | bits;
+    }
+
+    // Geçerli bir IPv4 değilse -1
+    private static long parseIpv4(String id) {
+        int length = id.length();
+        if (length < 7 || length > 15) {
+            return -1;
+        }
+        long address = 0;
+        int octet = 0;
+        int digits = 0;
+        int dots = 0;
+        for (int i = 0; i < length; i++) {
+            char c = id.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = octet * 10 + (c - '0');
+                if (++digits > 3 || octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && digits > 0 && ++dots <= 3) {
+                address = (address << 8) | octet;
+                octet = 0;
+                digits = 0;
+            } else {
+                return -1;
+            }
+        }
+        return dots == 3 && digits > 0 ? (address << 8) | octet : -1;
+    }
+
+    // FNV-1a + murmur3 finalizer
+    private static long hash(String id) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < id.length(); i++) {
+            h = (h ^ id.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+}
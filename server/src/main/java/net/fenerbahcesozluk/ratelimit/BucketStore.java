@@ -0,0 +1,96 @@
+package net.fenerbahcesozluk.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * Sabit kapasiteli, segmentli açık adresli tablo: anahtar ve TAT ilkel long
+ * dizilerde tutulur, kalıcı durumda hiç nesne oluşturulmaz. Her segment kendi
+ * kilidiyle korunur, farklı segmentlere gelen istekler birbirini beklemez.
+ *
+ * TAT'ı geçmişte kalan kayıt dolu kovadır, boş slot gibi yeniden kullanılır;
+ * ayrıca temizlik gerekmez. Anahtarın arama penceresinde (PROBE_LIMIT slot)
+ * boş ya da süresi dolmuş slot yoksa TAT'ı en eski olan, yani dolmaya en yakın
+ * kova çıkarılır.
+ */
+final class BucketStore {
+
+    private static final int PROBE_LIMIT = 8;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final Counter evictions;
+
+    BucketStore(int capacity, int segmentCount, Counter evictions) {
+        int segmentsPow2 = Integer.highestOneBit(Math.max(1, segmentCount - 1) << 1);
+        int slots = Math.max(PROBE_LIMIT, Integer.highestOneBit(Math.max(1, capacity / segmentsPow2 - 1) << 1));
+        this.segments = new Segment[segmentsPow2];
+        for (int i = 0; i < segmentsPow2; i++) {
+            segments[i] = new Segment(slots);
+        }
+        this.segmentMask = segmentsPow2 - 1;
+        this.evictions = evictions;
+    }
+
+    /**
+     * GCRA adımı. Kovanın başlangıç zamanını, max(TAT, now), döner. Çağıran
+     * {@code start + interval - now <= period} ise isteğin kabul edildiğini (ve
+     * TAT'ın start + interval olarak yazıldığını) bilir.
+     */
+    long acquire(long key, long now, long interval, long period) {
+        long hash = BucketKeys.mix(key);
+        return segments[(int) hash & segmentMask].acquire(key, (int) (hash >>> 32), now, interval, period);
+    }
+
+    int capacity() {
+        return segments.length * segments[0].keys.length;
+    }
+
+    private final class Segment {
+
+        private final long[] keys;
+        private final long[] tats;
+        private final int mask;
+
+        Segment(int slots) {
+            this.keys = new long[slots];
+            this.tats = new long[slots];
+            this.mask = slots - 1;
+        }
+
+        synchronized long acquire(long key, int hash, long now, long interval, long period) {
+            int slot = -1;
+            int free = -1;
+            int oldest = -1;
+            for (int i = 0; i < PROBE_LIMIT; i++) {
+                int index = (hash + i) & mask;
+                if (keys[index] == key) {
+                    slot = index;
+                    break;
+                }
+                if (free < 0 && (keys[index] == 0 || tats[index] <= now)) {
+                    free = index;
+                } else if (oldest < 0 || tats[index] < tats[oldest]) {
+                    oldest = index;
+                }
+            }
+
+            long start;
+            if (slot >= 0) {
+                start = Math.max(tats[slot], now);
+            } else {
+                slot = free >= 0 ? free : oldest;
+                if (free < 0) {
+                    evictions.increment();
+                }
+                keys[slot] = key;
+                start = now;
+            }
+
+            long next = start + interval;
+            if (next - now <= period) {
+                tats[slot] = next;
+            }
+            return start;
+        }
+    }
+}
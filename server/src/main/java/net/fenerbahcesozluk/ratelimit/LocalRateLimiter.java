@@ -0,0 +1,38 @@
+package net.fenerbahcesozluk.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.fenerbahcesozluk.config.RateLimitProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Node içi GCRA. Kovalar sabit kapasiteli {@link BucketStore}'da tutulur;
+ * anahtar limit id'si ile paketlenmiş istemci kimliğidir.
+ */
+@Component
+public class LocalRateLimiter implements RateLimiter {
+
+    private final BucketStore store;
+
+    public LocalRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        RateLimitProperties.Local local = properties.getLocal();
+        Counter evictions = Counter.builder("ratelimit.local.evictions")
+                .description("Active buckets dropped because the local store was full").register(meterRegistry);
+        this.store = new BucketStore(local.getCapacity(), local.getSegments(), evictions);
+        Gauge.builder("ratelimit.local.capacity", store, BucketStore::capacity).register(meterRegistry);
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(RateLimitPolicy policy, String key) {
+        long now = System.nanoTime();
+        long period = policy.periodNanos();
+        long start = store.acquire(BucketKeys.pack(policy.id(), key), now, policy.intervalNanos(), period);
+        long next = start + policy.intervalNanos();
+        if (next - now > period) {
+            return RateLimitDecision.of(false, policy.capacity(), 0, next - period - now, start - now);
+        }
+        return RateLimitDecision.of(true, policy.capacity(), (period - (next - now)) / policy.intervalNanos(), 0,
+                next - now);
+    }
+}
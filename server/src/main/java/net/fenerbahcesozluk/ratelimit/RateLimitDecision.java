@@ -0,0 +1,21 @@
+package net.fenerbahcesozluk.ratelimit;
+
+/**
+ * Tek bir tüketme denemesinin sonucu. Süreler saniye cinsinden, yukarı
+ * yuvarlanmıştır: retryAfter bir sonraki iznin, reset kovanın tamamen dolmasının
+ * süresidir.
+ */
+public record RateLimitDecision(boolean allowed, long limit, long remaining, long retryAfterSeconds,
+        long resetSeconds) {
+
+    public static final RateLimitDecision UNLIMITED = new RateLimitDecision(true, Long.MAX_VALUE, Long.MAX_VALUE, 0,
+            0);
+
+    static RateLimitDecision of(boolean allowed, long limit, long remaining, long retryAfterNanos, long resetNanos) {
+        return new RateLimitDecision(allowed, limit, remaining, toSeconds(retryAfterNanos), toSeconds(resetNanos));
+    }
+
+    private static long toSeconds(long nanos) {
+        return nanos <= 0 ? 0 : (nanos + 999_999_999L) / 1_000_000_000L;
+    }
+}
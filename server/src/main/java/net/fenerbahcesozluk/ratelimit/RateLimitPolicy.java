@@ -0,0 +1,17 @@
+package net.fenerbahcesozluk.ratelimit;
+
+import net.fenerbahcesozluk.config.RateLimitProperties;
+
+/**
+ * Başlangıçta bir kez hesaplanan limit. id, node içi store'da anahtarın
+ * parçasıdır (1-255).
+ */
+public record RateLimitPolicy(String name, int id, int capacity, long periodNanos, long intervalNanos,
+        RateLimitProperties.Backend backend) {
+
+    public static RateLimitPolicy of(String name, int id, RateLimitProperties.Limit limit,
+            RateLimitProperties.Backend backend) {
+        long period = limit.getPeriod().toNanos();
+        return new RateLimitPolicy(name, id, limit.getCapacity(), period, period / limit.getCapacity(), backend);
+    }
+}
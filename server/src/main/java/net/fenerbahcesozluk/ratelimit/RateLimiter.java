@@ -0,0 +1,12 @@
+package net.fenerbahcesozluk.ratelimit;
+
+/**
+ * Token bucket, GCRA (generic cell rate algorithm) biçiminde: kova başına
+ * yalnızca "teorik varış zamanı" (TAT) saklanır. Her istek TAT'ı
+ * period / capacity kadar ileri iter; TAT şimdiden period'dan fazla ileri
+ * gidecekse istek reddedilir.
+ */
+public interface RateLimiter {
+
+    RateLimitDecision tryAcquire(RateLimitPolicy policy, String key);
+}
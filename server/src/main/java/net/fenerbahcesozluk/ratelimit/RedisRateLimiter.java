@@ -0,0 +1,58 @@
+package net.fenerbahcesozluk.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import net.fenerbahcesozluk.cache.RedisCircuitBreaker;
+import net.fenerbahcesozluk.config.RateLimitProperties;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Replikalar arası ortak GCRA. Oku-hesapla-yaz tek Lua script'inde, Redis
+ * saatiyle (TIME) atomik çalışır; node saatleri arasındaki kayma sonucu
+ * etkilemez. Redis erişilemezken istekler {@link LocalRateLimiter} ile
+ * sınırlanır.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisRateLimiter implements RateLimiter {
+
+    // ARGV: interval, period (mikrosaniye). Dönen: allowed, remaining,
+    // retryAfter, reset (mikrosaniye)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ACQUIRE_SCRIPT = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local interval = tonumber(ARGV[1])
+            local period = tonumber(ARGV[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            local new_tat = math.max(tat, now) + interval
+            if new_tat - now > period then
+                return {0, 0, new_tat - period - now, tat - now}
+            end
+            redis.call('SET', KEYS[1], new_tat, 'PX', math.ceil((new_tat - now) / 1000))
+            return {1, math.floor((period - (new_tat - now)) / interval), 0, new_tat - now}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final LocalRateLimiter fallback;
+    private final RateLimitProperties properties;
+
+    @Override
+    public RateLimitDecision tryAcquire(RateLimitPolicy policy, String key) {
+        RateLimitDecision decision = circuitBreaker.call(() -> acquire(policy, key), null);
+        return decision != null ? decision : fallback.tryAcquire(policy, key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RateLimitDecision acquire(RateLimitPolicy policy, String key) {
+        List<Long> result = redisTemplate.execute(ACQUIRE_SCRIPT,
+                List.of(properties.getKeyPrefix() + policy.name() + ":" + key),
+                String.valueOf(policy.intervalNanos() / 1000), String.valueOf(policy.periodNanos() / 1000));
+        return RateLimitDecision.of(result.get(0) == 1, policy.capacity(), result.get(1), result.get(2) * 1000,
+                result.get(3) * 1000);
+    }
+}
@@ -1,5 +1,6 @@
 package net.fenerbahcesozluk.repository;
 
+import net.fenerbahcesozluk.dto.EntryResponse;
 import net.fenerbahcesozluk.entity.Entry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,51 +12,83 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface EntryRepository extends JpaRepository<Entry, UUID> {
 
-    Page<Entry> findByTopicIdAndIsActiveTrueOrderByCreatedAtAsc(UUID topicId, Pageable pageable);
+    // Listing queries project straight into EntryResponse so a page costs one
+    // query (plus COUNT) instead of one extra SELECT per lazy topic/author
+    String ENTRY_RESPONSE = "SELECT new net.fenerbahcesozluk.dto.EntryResponse(e.id, e.content, t.id, t.title, a.username, a.id, e.likeCount, e.dislikeCount, e.favoriteCount, e.isEdited, e.createdAt, e.updatedAt) FROM Entry e JOIN e.topic t JOIN e.author a ";
+
+    @Query(value = ENTRY_RESPONSE
+            + "WHERE t.id = :topicId AND e.isActive = true ORDER BY e.createdAt ASC", countQuery = "SELECT COUNT(e) FROM Entry e WHERE e.topic.id = :topicId AND e.isActive = true")
+    Page<EntryResponse> findByTopicIdAndIsActiveTrueOrderByCreatedAtAsc(@Param("topicId") UUID topicId,
+            Pageable pageable);
 
     // Entries by author - only active entries with active topics
-    @Query("SELECT e FROM Entry e WHERE e.author.id = :authorId AND e.isActive = true AND e.topic.isActive = true ORDER BY e.createdAt DESC")
-    Page<Entry> findByAuthorIdAndIsActiveTrueOrderByCreatedAtDesc(@Param("authorId") UUID authorId, Pageable pageable);
+    @Query(value = ENTRY_RESPONSE
+            + "WHERE a.id = :authorId AND e.isActive = true AND t.isActive = true ORDER BY e.createdAt DESC", countQuery = "SELECT COUNT(e) FROM Entry e WHERE e.author.id = :authorId AND e.isActive = true AND e.topic.isActive = true")
+    Page<EntryResponse> findByAuthorIdAndIsActiveTrueOrderByCreatedAtDesc(@Param("authorId") UUID authorId,
+            Pageable pageable);
 
-    // Date-filtered entries for a topic
-    @Query("SELECT e FROM Entry e LEFT JOIN FETCH e.author WHERE e.topic.id = :topicId AND e.isActive = true AND e.createdAt >= :start AND e.createdAt < :end ORDER BY e.createdAt ASC")
-    Page<Entry> findByTopicIdAndDateRange(@Param("topicId") UUID topicId, @Param("start") LocalDateTime start,
-            @Param("end") LocalDateTime end, Pageable pageable);
+    @Query(ENTRY_RESPONSE + "WHERE e.id = :id")
+    Optional<EntryResponse> findResponseById(@Param("id") UUID id);
 
-    // Count entries by topic and date range
-    @Query("SELECT COUNT(e) FROM Entry e WHERE e.topic.id = :topicId AND e.isActive = true AND e.createdAt >= :start AND e.createdAt < :end")
-    Integer countByTopicIdAndDateRange(@Param("topicId") UUID topicId, @Param("start") LocalDateTime start,
-            @Param("end") LocalDateTime end);
+    @Query(ENTRY_RESPONSE + "WHERE e.id IN :ids")
+    List<EntryResponse> findResponsesByIds(@Param("ids") List<UUID> ids);
 
-    // Count entries before a date (for "older" count)
-    @Query("SELECT COUNT(e) FROM Entry e WHERE e.topic.id = :topicId AND e.isActive = true AND e.createdAt < :before")
-    Integer countByTopicIdBefore(@Param("topicId") UUID topicId, @Param("before") LocalDateTime before);
+    // Date-filtered entries for a topic
+    @Query(value = ENTRY_RESPONSE
+            + "WHERE t.id = :topicId AND e.isActive = true AND e.createdAt >= :start AND e.createdAt < :end ORDER BY e.createdAt ASC", countQuery = "SELECT COUNT(e) FROM Entry e WHERE e.topic.id = :topicId AND e.isActive = true AND e.createdAt >= :start AND e.createdAt < :end")
+    Page<EntryResponse> findByTopicIdAndDateRange(@Param("topicId") UUID topicId, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end, Pageable pageable);
 
     // Find entries before a date (for "older" section)
-    @Query("SELECT e FROM Entry e LEFT JOIN FETCH e.author WHERE e.topic.id = :topicId AND e.isActive = true AND e.createdAt < :before ORDER BY e.createdAt ASC")
-    Page<Entry> findByTopicIdBefore(@Param("topicId") UUID topicId, @Param("before") LocalDateTime before,
+    @Query(value = ENTRY_RESPONSE
+            + "WHERE t.id = :topicId AND e.isActive = true AND e.createdAt < :before ORDER BY e.createdAt ASC", countQuery = "SELECT COUNT(e) FROM Entry e WHERE e.topic.id = :topicId AND e.isActive = true AND e.createdAt < :before")
+    Page<EntryResponse> findByTopicIdBefore(@Param("topicId") UUID topicId, @Param("before") LocalDateTime before,
             Pageable pageable);
 
-    @Query("SELECT e FROM Entry e WHERE e.isActive = true AND e.topic.isActive = true ORDER BY e.likeCount DESC, e.createdAt DESC")
-    Page<Entry> findPopularEntries(Pageable pageable);
+    // Keyset (cursor) pages for a topic - ordered by (created_time, id) on
+    // idx_entry_topic_active_created, no COUNT query and no OFFSET scan
+    @Query(ENTRY_RESPONSE
+            + "WHERE t.id = :topicId AND e.isActive = true AND e.createdAt >= :start AND e.createdAt < :end ORDER BY e.createdAt ASC, e.id ASC")
+    List<EntryResponse> findKeysetFirstPage(@Param("topicId") UUID topicId, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end, Pageable pageable);
+
+    @Query(ENTRY_RESPONSE
+            + "WHERE t.id = :topicId AND e.isActive = true AND e.createdAt >= :start AND e.createdAt < :end AND e.createdAt >= :cursorTime AND (e.createdAt > :cursorTime OR e.id > :cursorId) ORDER BY e.createdAt ASC, e.id ASC")
+    List<EntryResponse> findKeysetAfter(@Param("topicId") UUID topicId, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end, @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") UUID cursorId, Pageable pageable);
+
+    @Query(ENTRY_RESPONSE
+            + "WHERE t.id = :topicId AND e.isActive = true AND e.createdAt >= :start AND e.createdAt < :end AND e.createdAt <= :cursorTime AND (e.createdAt < :cursorTime OR e.id < :cursorId) ORDER BY e.createdAt DESC, e.id DESC")
+    List<EntryResponse> findKeysetBefore(@Param("topicId") UUID topicId, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end, @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") UUID cursorId, Pageable pageable);
+
+    @Query(value = ENTRY_RESPONSE
+            + "WHERE e.isActive = true AND t.isActive = true ORDER BY e.likeCount DESC, e.createdAt DESC", countQuery = "SELECT COUNT(e) FROM Entry e WHERE e.isActive = true AND e.topic.isActive = true")
+    Page<EntryResponse> findPopularEntries(Pageable pageable);
 
-    @Query("SELECT e FROM Entry e WHERE e.isActive = true AND e.topic.isActive = true ORDER BY e.createdAt DESC")
-    Page<Entry> findLatestEntries(Pageable pageable);
+    @Query(value = ENTRY_RESPONSE
+            + "WHERE e.isActive = true AND t.isActive = true ORDER BY e.createdAt DESC", countQuery = "SELECT COUNT(e) FROM Entry e WHERE e.isActive = true AND e.topic.isActive = true")
+    Page<EntryResponse> findLatestEntries(Pageable pageable);
 
     @Query("SELECT COUNT(e) FROM Entry e WHERE e.author.id = :authorId AND e.isActive = true")
     Long countByAuthorId(@Param("authorId") UUID authorId);
 
-    @Query("SELECT e FROM Entry e WHERE EXTRACT(DAY FROM e.createdAt) = :day AND EXTRACT(MONTH FROM e.createdAt) = :month AND EXTRACT(YEAR FROM e.createdAt) < :year AND e.isActive = true AND e.topic.isActive = true ORDER BY e.createdAt DESC")
-    Page<Entry> findHistoryEntries(@Param("day") int day, @Param("month") int month, @Param("year") int year,
+    @Query(value = ENTRY_RESPONSE
+            + "WHERE EXTRACT(DAY FROM e.createdAt) = :day AND EXTRACT(MONTH FROM e.createdAt) = :month AND EXTRACT(YEAR FROM e.createdAt) < :year AND e.isActive = true AND t.isActive = true ORDER BY e.createdAt DESC", countQuery = "SELECT COUNT(e) FROM Entry e WHERE EXTRACT(DAY FROM e.createdAt) = :day AND EXTRACT(MONTH FROM e.createdAt) = :month AND EXTRACT(YEAR FROM e.createdAt) < :year AND e.isActive = true AND e.topic.isActive = true")
+    Page<EntryResponse> findHistoryEntries(@Param("day") int day, @Param("month") int month, @Param("year") int year,
             Pageable pageable);
 
-    @Query(value = "SELECT e.* FROM entries e JOIN topics t ON e.topic_id = t.id WHERE e.is_active = true AND t.is_active = true ORDER BY RANDOM()", nativeQuery = true)
-    Page<Entry> findRandomEntries(Pageable pageable);
+    // Random ids first, then one projection query for the picked rows
+    @Query(value = "SELECT e.id FROM entries e JOIN topics t ON e.topic_id = t.id WHERE e.is_active = true AND t.is_active = true ORDER BY RANDOM()", countQuery = "SELECT COUNT(*) FROM entries e JOIN topics t ON e.topic_id = t.id WHERE e.is_active = true AND t.is_active = true", nativeQuery = true)
+    Page<UUID> findRandomEntryIds(Pageable pageable);
 
     @Modifying
     @Query("UPDATE Entry e SET e.likeCount = e.likeCount + 1 WHERE e.id = :entryId")
@@ -82,18 +115,31 @@ public interface EntryRepository extends JpaRepository<Entry, UUID> {
     void decrementFavoriteCount(@Param("entryId") UUID entryId);
 
     // Top entries by author - only entries with counts > 0 and active topics
-    @Query("SELECT e FROM Entry e WHERE e.author.id = :authorId AND e.isActive = true AND e.topic.isActive = true AND e.likeCount > 0 ORDER BY e.likeCount DESC")
-    List<Entry> findTopLikedByAuthor(@Param("authorId") UUID authorId, Pageable pageable);
+    @Query(ENTRY_RESPONSE
+            + "WHERE a.id = :authorId AND e.isActive = true AND t.isActive = true AND e.likeCount > 0 ORDER BY e.likeCount DESC")
+    List<EntryResponse> findTopLikedByAuthor(@Param("authorId") UUID authorId, Pageable pageable);
 
-    @Query("SELECT e FROM Entry e WHERE e.author.id = :authorId AND e.isActive = true AND e.topic.isActive = true AND e.favoriteCount > 0 ORDER BY e.favoriteCount DESC")
-    List<Entry> findTopFavoritedByAuthor(@Param("authorId") UUID authorId, Pageable pageable);
+    @Query(ENTRY_RESPONSE
+            + "WHERE a.id = :authorId AND e.isActive = true AND t.isActive = true AND e.favoriteCount > 0 ORDER BY e.favoriteCount DESC")
+    List<EntryResponse> findTopFavoritedByAuthor(@Param("authorId") UUID authorId, Pageable pageable);
 
     @Query("SELECT e.author.username, COUNT(e) FROM Entry e WHERE e.isActive = true GROUP BY e.author.username ORDER BY COUNT(e) DESC")
     List<Object[]> findTopAuthors(int limit);
 
     // Popular entries from high-entry-count topics ordered by likes
-    @Query("SELECT e FROM Entry e WHERE e.isActive = true AND e.topic.isActive = true AND e.likeCount > 0 ORDER BY e.topic.entryCount DESC, e.likeCount DESC")
-    List<Entry> findPopularEntriesFromTopTopics(Pageable pageable);
+    @Query(ENTRY_RESPONSE
+            + "WHERE e.isActive = true AND t.isActive = true AND e.likeCount > 0 ORDER BY t.entryCount DESC, e.likeCount DESC")
+    List<EntryResponse> findPopularEntriesFromTopTopics(Pageable pageable);
+
+    // Favorites of a user, newest vote first
+    @Query(ENTRY_RESPONSE
+            + "JOIN Vote v ON v.entry = e WHERE v.user.id = :userId AND v.voteType = net.fenerbahcesozluk.enums.VoteType.FAVORITE AND e.isActive = true ORDER BY v.createdAt DESC")
+    List<EntryResponse> findFavoritesByUserId(@Param("userId") UUID userId);
+
+    // Hourly per-topic entry counts since a point in time, used to rebuild the
+    // trending buckets: returns [topicId, day, hour, count]
+    @Query("SELECT e.topic.id, CAST(e.createdAt AS LocalDate), EXTRACT(HOUR FROM e.createdAt), COUNT(e) FROM Entry e WHERE e.createdAt >= :since AND e.isActive = true AND e.topic.isActive = true GROUP BY e.topic.id, CAST(e.createdAt AS LocalDate), EXTRACT(HOUR FROM e.createdAt)")
+    List<Object[]> countHourlyByTopicSince(@Param("since") LocalDateTime since);
 
     // Move entries from one topic to another (for merging)
     @Modifying
@@ -0,0 +1,94 @@
+package net.fenerbahcesozluk.repository;
+
+import jakarta.persistence.QueryHint;
+import net.fenerbahcesozluk.entity.TopicDailyEntryCount;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TopicDailyEntryCountRepository extends JpaRepository<TopicDailyEntryCount, UUID> {
+
+    // Native yazmalar yalnızca bu tabloya dokunur; aksi halde Hibernate tüm
+    // second-level cache bölgelerini temizler
+    String BUCKET_TABLE = "topic_daily_entry_counts";
+
+    // Add delta to the (topic, day) bucket, creating it on first use
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = BUCKET_TABLE))
+    @Query(value = "INSERT INTO topic_daily_entry_counts (id, version, created_time, updated_time, topic_id, bucket_date, entry_count) "
+            + "VALUES (uuid_generate_v4(), 0, now(), now(), :topicId, :day, GREATEST(:delta, 0)) "
+            + "ON CONFLICT (topic_id, bucket_date) DO UPDATE SET entry_count = GREATEST(topic_daily_entry_counts.entry_count + :delta, 0), updated_time = now()", nativeQuery = true)
+    void addToBucket(@Param("topicId") UUID topicId, @Param("day") LocalDate day, @Param("delta") int delta);
+
+    // Fold all buckets of source into target (for merging)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = BUCKET_TABLE))
+    @Query(value = "INSERT INTO topic_daily_entry_counts (id, version, created_time, updated_time, topic_id, bucket_date, entry_count) "
+            + "SELECT uuid_generate_v4(), 0, now(), now(), :targetTopicId, s.bucket_date, s.entry_count FROM topic_daily_entry_counts s WHERE s.topic_id = :sourceTopicId "
+            + "ON CONFLICT (topic_id, bucket_date) DO UPDATE SET entry_count = topic_daily_entry_counts.entry_count + EXCLUDED.entry_count, updated_time = now()", nativeQuery = true)
+    void mergeBuckets(@Param("sourceTopicId") UUID sourceTopicId, @Param("targetTopicId") UUID targetTopicId);
+
+    @Modifying
+    @Query("DELETE FROM TopicDailyEntryCount b WHERE b.topic.id = :topicId")
+    void deleteByTopicId(@Param("topicId") UUID topicId);
+
+    // Today, yesterday and older counts of a single topic in one row
+    @Query("SELECT COALESCE(SUM(CASE WHEN b.bucketDate = :today THEN b.entryCount ELSE 0 END), 0), "
+            + "COALESCE(SUM(CASE WHEN b.bucketDate = :yesterday THEN b.entryCount ELSE 0 END), 0), "
+            + "COALESCE(SUM(CASE WHEN b.bucketDate < :yesterday THEN b.entryCount ELSE 0 END), 0) "
+            + "FROM TopicDailyEntryCount b WHERE b.topic.id = :topicId")
+    List<Object[]> sumDateCountsByTopicId(@Param("topicId") UUID topicId, @Param("today") LocalDate today,
+            @Param("yesterday") LocalDate yesterday);
+
+    // Batch count for sidebar pages: returns [topicId, count] pairs
+    @Query("SELECT b.topic.id, SUM(b.entryCount) FROM TopicDailyEntryCount b WHERE b.topic.id IN :topicIds AND b.bucketDate >= :startDate AND b.bucketDate < :endDate GROUP BY b.topic.id")
+    List<Object[]> sumByTopicIdsAndDateRange(@Param("topicIds") List<UUID> topicIds,
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT b.topic.id, SUM(b.entryCount) FROM TopicDailyEntryCount b WHERE b.topic.id IN :topicIds AND b.bucketDate < :beforeDate GROUP BY b.topic.id")
+    List<Object[]> sumByTopicIdsBefore(@Param("topicIds") List<UUID> topicIds,
+            @Param("beforeDate") LocalDate beforeDate);
+
+    // Per-topic counts of active topics, used to seed the sidebar rankings
+    @Query("SELECT b.topic.id, SUM(b.entryCount) FROM TopicDailyEntryCount b WHERE b.bucketDate = :day AND b.topic.isActive = true GROUP BY b.topic.id HAVING SUM(b.entryCount) > 0")
+    List<Object[]> sumActiveTopicsOnDate(@Param("day") LocalDate day);
+
+    @Query("SELECT b.topic.id, SUM(b.entryCount) FROM TopicDailyEntryCount b WHERE b.bucketDate < :beforeDate AND b.topic.isActive = true GROUP BY b.topic.id HAVING SUM(b.entryCount) > 0")
+    List<Object[]> sumActiveTopicsBefore(@Param("beforeDate") LocalDate beforeDate);
+
+    // Yeniden hesaplamayı tek replikada çalıştırır; kilit transaction sonunda bırakılır
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('topic_daily_entry_counts'))", nativeQuery = true)
+    boolean tryLockRebuild();
+
+    // Rebuild sürerken artımlı upsert'ler beklesin (okumalar serbest); aksi halde
+    // DELETE/INSERT arasına giren artışlar kaybolur ya da unique ihlaline düşer
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = BUCKET_TABLE))
+    @Query(value = "LOCK TABLE topic_daily_entry_counts IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockBuckets();
+
+    // Full rebuild from the entries table
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = BUCKET_TABLE))
+    @Query(value = "DELETE FROM topic_daily_entry_counts", nativeQuery = true)
+    void deleteAllBuckets();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = BUCKET_TABLE))
+    // created_time JVM saat diliminde tutulur; gün Europe/Istanbul'a göre belirlenir
+    @Query(value = "INSERT INTO topic_daily_entry_counts (id, version, created_time, updated_time, topic_id, bucket_date, entry_count) "
+            + "SELECT uuid_generate_v4(), 0, now(), now(), e.topic_id, "
+            + "CAST(timezone('Europe/Istanbul', timezone(:storageZone, e.created_time)) AS DATE), COUNT(*) FROM entries e "
+            + "WHERE e.is_active = true "
+            + "GROUP BY e.topic_id, CAST(timezone('Europe/Istanbul', timezone(:storageZone, e.created_time)) AS DATE)", nativeQuery = true)
+    int insertBucketsFromEntries(@Param("storageZone") String storageZone);
+}
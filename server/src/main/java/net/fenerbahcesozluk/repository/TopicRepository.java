@@ -1,11 +1,15 @@
 package net.fenerbahcesozluk.repository;
 
+import jakarta.persistence.QueryHint;
+import net.fenerbahcesozluk.dto.TopicResponse;
 import net.fenerbahcesozluk.entity.Topic;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -17,41 +21,72 @@ import java.util.UUID;
 @Repository
 public interface TopicRepository extends JpaRepository<Topic, UUID> {
 
+    // Listing queries project straight into TopicResponse so a page costs one
+    // query (plus COUNT) instead of one extra SELECT per lazy author
+    String TOPIC_RESPONSE = "SELECT new net.fenerbahcesozluk.dto.TopicResponse(t.id, t.title, a.username, a.id, t.entryCount, t.viewCount, t.isLocked, t.isPinned, t.kunyeImageUrl, t.kunyeData, t.createdAt, t.updatedAt) FROM Topic t JOIN t.author a ";
+
+    // Sayaç güncellemeleri native ve bu sorgu alanıyla çalışır; JPQL bulk update
+    // her entry'de second-level cache'teki tüm Topic bölgesini boşaltırdı. Sayaçlar
+    // entity üzerinden yazılmaz (updatable = false), okumalar projeksiyonlarla yapılır
+    String COUNTER_SPACE = "topic_counters";
+
     Optional<Topic> findByTitleIgnoreCaseAndIsActiveTrue(String title);
 
-    Page<Topic> findByIsActiveTrueOrderByCreatedAtDesc(Pageable pageable);
+    @Query(value = TOPIC_RESPONSE
+            + "WHERE t.isActive = true ORDER BY t.createdAt DESC", countQuery = "SELECT COUNT(t) FROM Topic t WHERE t.isActive = true")
+    Page<TopicResponse> findByIsActiveTrueOrderByCreatedAtDesc(Pageable pageable);
 
-    @Query("SELECT t FROM Topic t WHERE t.isActive = true AND t.entryCount > 0 ORDER BY t.entryCount DESC")
-    Page<Topic> findPopularTopics(Pageable pageable);
+    @Query(value = TOPIC_RESPONSE
+            + "WHERE t.isActive = true AND t.entryCount > 0 ORDER BY t.entryCount DESC", countQuery = "SELECT COUNT(t) FROM Topic t WHERE t.isActive = true AND t.entryCount > 0")
+    Page<TopicResponse> findPopularTopics(Pageable pageable);
 
-    @Query("SELECT t FROM Topic t WHERE t.isActive = true AND LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Topic> searchByTitle(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = TOPIC_RESPONSE
+            + "WHERE t.isActive = true AND LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%'))", countQuery = "SELECT COUNT(t) FROM Topic t WHERE t.isActive = true AND LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Page<TopicResponse> searchByTitle(@Param("keyword") String keyword, Pageable pageable);
 
-    @Modifying
-    @Query("UPDATE Topic t SET t.viewCount = t.viewCount + 1 WHERE t.id = :topicId")
-    void incrementViewCount(@Param("topicId") UUID topicId);
+    @Query(TOPIC_RESPONSE + "WHERE t.id = :id AND t.isActive = true")
+    Optional<TopicResponse> findActiveResponseById(@Param("id") UUID id);
+
+    // Ranked pages come from Redis as id lists; load them in one query
+    @Query(TOPIC_RESPONSE + "WHERE t.id IN :ids AND t.isActive = true")
+    List<TopicResponse> findActiveResponsesByIds(@Param("ids") List<UUID> ids);
 
     @Modifying
-    @Query("UPDATE Topic t SET t.entryCount = t.entryCount + 1 WHERE t.id = :topicId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+    @Query(value = "UPDATE topics SET entry_count = entry_count + 1 WHERE id = :topicId", nativeQuery = true)
     void incrementEntryCount(@Param("topicId") UUID topicId);
 
-    @Query(value = "SELECT t FROM Topic t JOIN Entry e ON t.id = e.topic.id WHERE e.createdAt >= :startDate AND e.isActive = true AND t.isActive = true GROUP BY t.id ORDER BY COUNT(e) DESC, t.title ASC", countQuery = "SELECT count(DISTINCT t.id) FROM Topic t JOIN Entry e ON t.id = e.topic.id WHERE e.createdAt >= :startDate AND e.isActive = true AND t.isActive = true")
-    Page<Topic> findTrends(@Param("startDate") java.time.LocalDateTime startDate, Pageable pageable);
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+    @Query(value = "UPDATE topics SET entry_count = GREATEST(entry_count + :delta, 0) WHERE id = :topicId", nativeQuery = true)
+    void addToEntryCount(@Param("topicId") UUID topicId, @Param("delta") int delta);
+
+    @Query(value = TOPIC_RESPONSE
+            + "JOIN Entry e ON t.id = e.topic.id WHERE e.createdAt >= :startDate AND e.isActive = true AND t.isActive = true GROUP BY t.id, a.id ORDER BY COUNT(e) DESC, t.title ASC", countQuery = "SELECT count(DISTINCT t.id) FROM Topic t JOIN Entry e ON t.id = e.topic.id WHERE e.createdAt >= :startDate AND e.isActive = true AND t.isActive = true")
+    Page<TopicResponse> findTrends(@Param("startDate") java.time.LocalDateTime startDate, Pageable pageable);
 
     // Topics with entries in a specific date range, ordered by entry count in that
     // range
-    @Query(value = "SELECT t FROM Topic t WHERE t.isActive = true AND EXISTS (SELECT 1 FROM Entry e WHERE e.topic.id = t.id AND e.isActive = true AND e.createdAt >= :start AND e.createdAt < :end) ORDER BY (SELECT COUNT(e) FROM Entry e WHERE e.topic.id = t.id AND e.isActive = true AND e.createdAt >= :start AND e.createdAt < :end) DESC, t.title ASC", countQuery = "SELECT COUNT(DISTINCT t.id) FROM Topic t WHERE t.isActive = true AND EXISTS (SELECT 1 FROM Entry e WHERE e.topic.id = t.id AND e.isActive = true AND e.createdAt >= :start AND e.createdAt < :end)")
-    Page<Topic> findTopicsWithEntriesInDateRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
-            Pageable pageable);
+    @Query(value = TOPIC_RESPONSE
+            + "WHERE t.isActive = true AND EXISTS (SELECT 1 FROM Entry e WHERE e.topic.id = t.id AND e.isActive = true AND e.createdAt >= :start AND e.createdAt < :end) ORDER BY (SELECT COUNT(e) FROM Entry e WHERE e.topic.id = t.id AND e.isActive = true AND e.createdAt >= :start AND e.createdAt < :end) DESC, t.title ASC", countQuery = "SELECT COUNT(DISTINCT t.id) FROM Topic t WHERE t.isActive = true AND EXISTS (SELECT 1 FROM Entry e WHERE e.topic.id = t.id AND e.isActive = true AND e.createdAt >= :start AND e.createdAt < :end)")
+    Page<TopicResponse> findTopicsWithEntriesInDateRange(@Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end, Pageable pageable);
 
     // Topics with entries before a certain date (for "older" section)
-    @Query(value = "SELECT t FROM Topic t WHERE t.isActive = true AND EXISTS (SELECT 1 FROM Entry e WHERE e.topic.id = t.id AND e.isActive = true AND e.createdAt < :before) ORDER BY (SELECT COUNT(e) FROM Entry e WHERE e.topic.id = t.id AND e.isActive = true AND e.createdAt < :before) DESC, t.title ASC", countQuery = "SELECT COUNT(DISTINCT t.id) FROM Topic t WHERE t.isActive = true AND EXISTS (SELECT 1 FROM Entry e WHERE e.topic.id = t.id AND e.isActive = true AND e.createdAt < :before)")
-    Page<Topic> findTopicsWithEntriesBefore(@Param("before") LocalDateTime before, Pageable pageable);
+    @Query(value = TOPIC_RESPONSE
+            + "WHERE t.isActive = true AND EXISTS (SELECT 1 FROM Entry e WHERE e.topic.id = t.id AND e.isActive = true AND e.createdAt < :before) ORDER BY (SELECT COUNT(e) FROM Entry e WHERE e.topic.id = t.id AND e.isActive = true AND e.createdAt < :before) DESC, t.title ASC", countQuery = "SELECT COUNT(DISTINCT t.id) FROM Topic t WHERE t.isActive = true AND EXISTS (SELECT 1 FROM Entry e WHERE e.topic.id = t.id AND e.isActive = true AND e.createdAt < :before)")
+    Page<TopicResponse> findTopicsWithEntriesBefore(@Param("before") LocalDateTime before, Pageable pageable);
 
     @Modifying
-    @Query("UPDATE Topic t SET t.entryCount = t.entryCount - 1 WHERE t.id = :topicId AND t.entryCount > 0")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+    @Query(value = "UPDATE topics SET entry_count = entry_count - 1 WHERE id = :topicId AND entry_count > 0", nativeQuery = true)
     void decrementEntryCount(@Param("topicId") UUID topicId);
 
+    // [topicId, entryCount] of every active topic with entries, seeds the popular
+    // ranking
+    @Query("SELECT t.id, t.entryCount FROM Topic t WHERE t.isActive = true AND t.entryCount > 0")
+    List<Object[]> findActiveEntryCounts();
+
     @Query("SELECT t.id, t.title, t.entryCount FROM Topic t WHERE t.isActive = true AND t.entryCount > 0 ORDER BY t.entryCount DESC")
     List<Object[]> findTopTopics(int limit);
 }
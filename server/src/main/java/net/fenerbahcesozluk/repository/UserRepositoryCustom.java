@@ -0,0 +1,11 @@
+package net.fenerbahcesozluk.repository;
+
+import net.fenerbahcesozluk.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    // Natural-id lookup: served from the second-level cache once loaded
+    Optional<User> findByUsername(String username);
+}
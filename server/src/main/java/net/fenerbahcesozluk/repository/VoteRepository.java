@@ -1,5 +1,6 @@
 package net.fenerbahcesozluk.repository;
 
+import net.fenerbahcesozluk.dto.EntryVoteState;
 import net.fenerbahcesozluk.entity.Vote;
 import net.fenerbahcesozluk.enums.VoteType;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,6 +19,10 @@ public interface VoteRepository extends JpaRepository<Vote, UUID> {
 
     List<Vote> findByUserIdAndVoteType(UUID userId, VoteType voteType);
 
+    // Entry yoksa boş döner; oy doğrulaması ve mevcut oy tek sorguda
+    @Query("SELECT new net.fenerbahcesozluk.dto.EntryVoteState(e.id, v.voteType) FROM Entry e LEFT JOIN Vote v ON v.entry.id = e.id AND v.user.id = :userId WHERE e.id = :entryId")
+    Optional<EntryVoteState> findVoteState(@Param("entryId") UUID entryId, @Param("userId") UUID userId);
+
     // Batch load votes for multiple entries - solves N+1 problem
     @Query("SELECT v FROM Vote v WHERE v.entry.id IN :entryIds AND v.user.id = :userId")
     List<Vote> findByEntryIdsAndUserId(@Param("entryIds") List<UUID> entryIds, @Param("userId") UUID userId);
@@ -2,6 +2,7 @@ package net.fenerbahcesozluk.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.fenerbahcesozluk.cache.PrincipalCache;
 import net.fenerbahcesozluk.dto.AuthResponse;
 import net.fenerbahcesozluk.dto.ForgotPasswordRequest;
 import net.fenerbahcesozluk.dto.LoginRequest;
@@ -35,6 +36,7 @@ public class AuthService {
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
     private final EmailService emailService;
+    private final PrincipalCache principalCache;
 
     public AuthResponse register(RegisterRequest request) {
         String usernameLower = request.getUsername().toLowerCase();
@@ -149,6 +151,7 @@ public class AuthService {
 
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        principalCache.invalidate(user);
 
         // Mark token as used
         tokenEntity.setUsed(true);
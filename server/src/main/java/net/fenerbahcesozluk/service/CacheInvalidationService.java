@@ -0,0 +1,86 @@
+package net.fenerbahcesozluk.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.fenerbahcesozluk.cache.CacheTagIndex;
+import net.fenerbahcesozluk.cache.CacheTags;
+import net.fenerbahcesozluk.entity.User;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Yalnızca değişen başlık, yazar ya da entry'yi içeren cache kayıtlarını siler.
+ * Silme hem Redis'e (L2) hem tüm node'ların L1'ine uygulanır. Transaction
+ * içindeyken commit sonrasına ertelenir; aksi halde eski veri commit'ten önce
+ * tekrar cache'lenebilir.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheInvalidationService {
+
+    private final CacheTagIndex tagIndex;
+    private final CacheManager cacheManager;
+
+    public void invalidateTopic(UUID topicId) {
+        invalidate(List.of(CacheTags.topic(topicId)));
+    }
+
+    public void invalidateTopics(UUID... topicIds) {
+        invalidate(Arrays.stream(topicIds).map(CacheTags::topic).toList());
+    }
+
+    public void invalidateAuthor(User author) {
+        invalidate(List.of(CacheTags.author(author.getId()), CacheTags.authorName(author.getUsername())));
+    }
+
+    public void invalidateEntry(UUID entryId) {
+        invalidate(List.of(CacheTags.entry(entryId)));
+    }
+
+    private void invalidate(List<String> tags) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictTagged(tags);
+                }
+            });
+        } else {
+            evictTagged(tags);
+        }
+    }
+
+    private void evictTagged(List<String> tags) {
+        Optional<Map<String, Set<String>>> drained = tagIndex.drain(tags);
+        if (drained.isEmpty()) {
+            // Hangi kayıtların etkilendiği bilinmiyor - tüm cache'leri temizle;
+            // Redis tarafı bağlantı gelince temizlenir
+            log.warn("Cache tag lookup failed for {}, clearing all caches", tags);
+            cacheManager.getCacheNames().forEach(name -> {
+                Cache cache = cacheManager.getCache(name);
+                if (cache != null) {
+                    cache.clear();
+                }
+            });
+            return;
+        }
+
+        drained.get().forEach((cacheName, keys) -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                keys.forEach(cache::evict);
+            }
+        });
+    }
+}
@@ -0,0 +1,352 @@
+package net.fenerbahcesozluk.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import net.fenerbahcesozluk.cache.RedisCircuitBreaker;
+import net.fenerbahcesozluk.entity.Topic;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Entry oy sayaçlarını (like/dislike/favorite) votes tablosundan, başlık
+ * entry sayılarını aktif entry'lerden yeniden hesaplar ve yalnızca farklı olan
+ * satırları düzeltir. UUID uzayı {@code parallelism} aralığa bölünür; her
+ * aralık id sırasıyla {@code chunk-size}'lık parçalar halinde okunur, parçalar
+ * arasında {@code chunk-pause} kadar beklenir.
+ *
+ * Entry sayaçları {@link EntryCounterBuffer} üzerinden gecikmeli yazıldığından
+ * sapan entry'ler {@code settle-delay} sonra tekrar okunur; yalnızca iki
+ * okumada da aynı sapmayı gösterenler düzeltilir. Düzeltmeler okunan değere
+ * koşullu yazılır, arada değişen satıra dokunulmaz.
+ *
+ * İş zamanlayıcı thread'inde değil kendi thread'inde çalışır; settle beklemesi
+ * sırasında sayaç flush'ları sürer. Aynı anda tek node çalıştırır: başlamadan
+ * önce Redis'te {@code lease-ttl} süreli bir kira alınır, alınamazsa iş atlanır.
+ */
+@Slf4j
+@Service
+public class CounterReconciliationService implements DisposableBean {
+
+    private static final String ENTRY_COUNTS_SQL = "SELECT e.id, e.like_count, e.dislike_count, e.favorite_count, "
+            + "COUNT(v.id) FILTER (WHERE v.vote_type = 'LIKE') AS likes, "
+            + "COUNT(v.id) FILTER (WHERE v.vote_type = 'DISLIKE') AS dislikes, "
+            + "COUNT(v.id) FILTER (WHERE v.vote_type = 'FAVORITE') AS favorites "
+            + "FROM (SELECT id, like_count, dislike_count, favorite_count FROM entries WHERE %s) e "
+            + "LEFT JOIN votes v ON v.entry_id = e.id "
+            + "GROUP BY e.id, e.like_count, e.dislike_count, e.favorite_count ORDER BY e.id";
+    private static final String TOPIC_COUNTS_SQL = "SELECT t.id, t.entry_count, "
+            + "(SELECT COUNT(*) FROM entries e WHERE e.topic_id = t.id AND e.is_active = true) AS entries "
+            + "FROM (SELECT id, entry_count FROM topics WHERE id > ? AND id <= ? ORDER BY id LIMIT ?) t ORDER BY t.id";
+    private static final String CHUNK_FILTER = "id > ? AND id <= ? ORDER BY id LIMIT ?";
+    private static final String ENTRY_UPDATE_SQL = "UPDATE entries SET like_count = ?, dislike_count = ?, "
+            + "favorite_count = ? WHERE id = ? AND like_count = ? AND dislike_count = ? AND favorite_count = ?";
+    private static final String TOPIC_UPDATE_SQL = "UPDATE topics SET entry_count = ? WHERE id = ? AND entry_count = ?";
+    private static final String LEASE_KEY = "lock:counter-reconcile";
+    // Settle beklemesi en az bu kadar flush turu kapsamalı
+    private static final int SETTLE_FLUSHES = 3;
+
+    // Kirayı yalnızca sahibi bırakabilir
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final PopularTopicService popularTopicService;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker breaker;
+    private final int parallelism;
+    private final int chunkSize;
+    private final long chunkPauseMillis;
+    private final long settleDelayMillis;
+    private final Duration leaseTtl;
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(
+            new CustomizableThreadFactory("counter-reconcile-main-"));
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Timer duration;
+    private final MeterRegistry meterRegistry;
+
+    public CounterReconciliationService(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+            CacheInvalidationService cacheInvalidationService, PopularTopicService popularTopicService,
+            StringRedisTemplate redisTemplate, RedisCircuitBreaker breaker, MeterRegistry meterRegistry,
+            @Value("${app.reconciliation.parallelism:2}") int parallelism,
+            @Value("${app.reconciliation.chunk-size:1000}") int chunkSize,
+            @Value("${app.reconciliation.chunk-pause:50ms}") Duration chunkPause,
+            @Value("${app.reconciliation.settle-delay:10s}") Duration settleDelay,
+            @Value("${app.reconciliation.lease-ttl:2h}") Duration leaseTtl,
+            @Value("${app.entry-counters.flush-interval-ms:1000}") long flushIntervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.popularTopicService = popularTopicService;
+        this.redisTemplate = redisTemplate;
+        this.breaker = breaker;
+        this.parallelism = Math.max(1, parallelism);
+        this.chunkSize = chunkSize;
+        this.chunkPauseMillis = chunkPause.toMillis();
+        // Daha kısa beklemede tampondaki farklar henüz yazılmamış olabilir; sapma iki kez düzeltilir
+        this.settleDelayMillis = Math.max(settleDelay.toMillis(), SETTLE_FLUSHES * flushIntervalMillis);
+        this.leaseTtl = leaseTtl;
+        this.meterRegistry = meterRegistry;
+        this.duration = Timer.builder("counters.reconcile.duration").register(meterRegistry);
+    }
+
+    /**
+     * Popüler başlık sıralaması (04:50) entry_count'tan kurulmadan önce çalışır.
+     * {@code app.reconciliation.cron: "-"} ile kapatılır.
+     */
+    @Scheduled(cron = "${app.reconciliation.cron:0 40 4 * * ?}", zone = "Europe/Istanbul")
+    public void reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Counter reconciliation already running, skipping");
+            return;
+        }
+        runner.execute(() -> {
+            try {
+                runWithLease();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    private void runWithLease() {
+        String token = UUID.randomUUID().toString();
+        Boolean leased = breaker.call(() -> redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, token, leaseTtl),
+                null);
+        if (leased == null) {
+            log.warn("Counter reconciliation skipped, Redis unavailable for the lease");
+            return;
+        }
+        if (!leased) {
+            log.info("Counter reconciliation running on another node, skipping");
+            return;
+        }
+        try {
+            run();
+        } finally {
+            // Bırakılamazsa kira süresi dolunca düşer
+            breaker.run(() -> redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY), token));
+        }
+    }
+
+    private void run() {
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism,
+                new CustomizableThreadFactory("counter-reconcile-"));
+        try {
+            int entries = reconcileEntries(pool);
+            int topics = reconcileTopics(pool);
+            log.info("Counter reconciliation finished in {}s: {} entries, {} topics corrected",
+                    TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start), entries, topics);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Counter reconciliation interrupted");
+        } catch (RuntimeException e) {
+            log.warn("Counter reconciliation failed: {}", e.getMessage());
+        } finally {
+            pool.shutdownNow();
+            duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private int reconcileEntries(ExecutorService pool) throws InterruptedException {
+        String chunkSql = String.format(ENTRY_COUNTS_SQL, CHUNK_FILTER);
+        List<EntryCounts> drifted = scan(pool, range -> readEntries(chunkSql, range.from(), range.to(), chunkSize));
+        if (drifted.isEmpty()) {
+            return 0;
+        }
+
+        // Tampondaki ve yeni commit edilen oylar yazılsın; sapma hâlâ aynıysa gerçektir
+        Thread.sleep(settleDelayMillis);
+        Set<EntryCounts> confirmed = new HashSet<>();
+        for (List<EntryCounts> part : partition(drifted)) {
+            String filter = "id IN (" + part.stream().map(row -> "?").collect(Collectors.joining(", ")) + ")";
+            confirmed.addAll(readEntries(String.format(ENTRY_COUNTS_SQL, filter),
+                    part.stream().map(EntryCounts::id).toArray()));
+        }
+
+        List<EntryCounts> corrections = drifted.stream().filter(confirmed::contains).toList();
+        List<Object[]> rows = corrections.stream()
+                .map(row -> new Object[]{row.actualLikes(), row.actualDislikes(), row.actualFavorites(), row.id(),
+                        row.likes(), row.dislikes(), row.favorites()})
+                .toList();
+        int[] updated = rows.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(ENTRY_UPDATE_SQL, rows);
+
+        int corrected = 0;
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] > 0) {
+                EntryCounts row = corrections.get(i);
+                recordDrift("like", row.actualLikes() - row.likes());
+                recordDrift("dislike", row.actualDislikes() - row.dislikes());
+                recordDrift("favorite", row.actualFavorites() - row.favorites());
+                cacheInvalidationService.invalidateEntry(row.id());
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    private int reconcileTopics(ExecutorService pool) throws InterruptedException {
+        // entry_count entry ile aynı transaction'da güncellenir; tek okuma yeterli
+        List<TopicCounts> drifted = scan(pool, range -> jdbcTemplate.query(TOPIC_COUNTS_SQL,
+                (rs, rowNum) -> new TopicCounts(rs.getObject("id", UUID.class), rs.getInt("entry_count"),
+                        rs.getInt("entries")),
+                range.from(), range.to(), chunkSize));
+        if (drifted.isEmpty()) {
+            return 0;
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(TOPIC_UPDATE_SQL, drifted.stream()
+                .map(row -> new Object[]{row.actualEntries(), row.id(), row.entries()}).toList());
+
+        int corrected = 0;
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] > 0) {
+                TopicCounts row = drifted.get(i);
+                int delta = row.actualEntries() - row.entries();
+                recordDrift("entry_count", delta);
+                entityManagerFactory.getCache().evict(Topic.class, row.id());
+                cacheInvalidationService.invalidateTopic(row.id());
+                popularTopicService.recordEntryCountChange(row.id(), delta);
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    // Aralıklar paralel taranır; sapan satırlar döner
+    private <T extends Counts> List<T> scan(ExecutorService pool, Function<Range, List<T>> readChunk)
+            throws InterruptedException {
+        List<Future<List<T>>> futures = new ArrayList<>();
+        for (Range range : ranges()) {
+            futures.add(pool.submit(() -> scanRange(range, readChunk)));
+        }
+
+        List<T> drifted = new ArrayList<>();
+        for (Future<List<T>> future : futures) {
+            try {
+                drifted.addAll(future.get());
+            } catch (ExecutionException e) {
+                futures.forEach(f -> f.cancel(true));
+                throw e.getCause() instanceof RuntimeException runtime ? runtime
+                        : new IllegalStateException(e.getCause());
+            }
+        }
+        return drifted;
+    }
+
+    private <T extends Counts> List<T> scanRange(Range range, Function<Range, List<T>> readChunk)
+            throws InterruptedException {
+        List<T> drifted = new ArrayList<>();
+        UUID cursor = range.from();
+        while (true) {
+            List<T> chunk = readChunk.apply(new Range(cursor, range.to()));
+            chunk.stream().filter(Counts::drifted).forEach(drifted::add);
+            if (chunk.size() < chunkSize) {
+                return drifted;
+            }
+            cursor = chunk.get(chunk.size() - 1).id();
+            Thread.sleep(chunkPauseMillis);
+        }
+    }
+
+    private List<EntryCounts> readEntries(String sql, Object... args) {
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new EntryCounts(rs.getObject("id", UUID.class),
+                rs.getInt("like_count"), rs.getInt("dislike_count"), rs.getInt("favorite_count"), rs.getInt("likes"),
+                rs.getInt("dislikes"), rs.getInt("favorites")), args);
+    }
+
+    // UUID'ler rastgele (v4) olduğundan eşit aralıklar eşit yük taşır;
+    // aralıklar (from, to] - nil UUID hiçbir zaman üretilmez
+    private List<Range> ranges() {
+        long step = Long.divideUnsigned(-1L, parallelism);
+        List<Range> ranges = new ArrayList<>(parallelism);
+        UUID from = new UUID(0L, 0L);
+        for (int i = 1; i <= parallelism; i++) {
+            UUID to = i == parallelism ? new UUID(-1L, -1L) : new UUID(step * i, 0L);
+            ranges.add(new Range(from, to));
+            from = to;
+        }
+        return ranges;
+    }
+
+    private <T> List<List<T>> partition(List<T> rows) {
+        if (rows.size() <= chunkSize) {
+            return Collections.singletonList(rows);
+        }
+        List<List<T>> parts = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i += chunkSize) {
+            parts.add(rows.subList(i, Math.min(i + chunkSize, rows.size())));
+        }
+        return parts;
+    }
+
+    private void recordDrift(String counter, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        Counter.builder("counters.reconcile.corrected").tag("counter", counter).register(meterRegistry).increment();
+        DistributionSummary.builder("counters.reconcile.drift").tag("counter", counter).register(meterRegistry)
+                .record(Math.abs(delta));
+    }
+
+    private interface Counts {
+        UUID id();
+
+        boolean drifted();
+    }
+
+    @Override
+    public void destroy() {
+        runner.shutdownNow();
+    }
+
+    private record Range(UUID from, UUID to) {
+    }
+
+    private record EntryCounts(UUID id, int likes, int dislikes, int favorites, int actualLikes, int actualDislikes,
+            int actualFavorites) implements Counts {
+
+        @Override
+        public boolean drifted() {
+            return likes != actualLikes || dislikes != actualDislikes || favorites != actualFavorites;
+        }
+    }
+
+    private record TopicCounts(UUID id, int entries, int actualEntries) implements Counts {
+
+        @Override
+        public boolean drifted() {
+            return entries != actualEntries;
+        }
+    }
+}
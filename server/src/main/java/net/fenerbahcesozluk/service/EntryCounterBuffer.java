@@ -0,0 +1,125 @@
+package net.fenerbahcesozluk.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.fenerbahcesozluk.dto.EntryResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Entry oy sayaçlarındaki (like/dislike/favorite) değişimleri bellekte toplar
+ * ve periyodik olarak entry başına tek bir UPDATE ile yazar. Çok oy alan bir
+ * entry'nin satırı oy başına değil, flush başına bir kez kilitlenir. Okumalarda
+ * henüz yazılmamış farklar kayıtlı değerlere eklenir.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EntryCounterBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE entries SET like_count = GREATEST(like_count + ?, 0), "
+            + "dislike_count = GREATEST(dislike_count + ?, 0), favorite_count = GREATEST(favorite_count + ?, 0) WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Değerler değişmez; ekleme merge ile atomiktir. Flush yazdığı farkı UPDATE
+    // döndükten sonra düşer, yazım sürerken okumalar farkı görmeye devam eder
+    private final Map<UUID, Delta> pending = new ConcurrentHashMap<>();
+
+    public void add(UUID entryId, long likes, long dislikes, long favorites) {
+        pending.merge(entryId, new Delta(likes, dislikes, favorites), Delta::plus);
+    }
+
+    /**
+     * Henüz yazılmamış farkları yanıtlardaki sayılara ekler.
+     */
+    public void applyPending(Collection<EntryResponse> entries) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        entries.forEach(this::applyPending);
+    }
+
+    public void applyPending(EntryResponse entry) {
+        Delta delta = pending.get(entry.getId());
+        if (delta != null) {
+            entry.setLikeCount(plus(entry.getLikeCount(), delta.likes()));
+            entry.setDislikeCount(plus(entry.getDislikeCount(), delta.dislikes()));
+            entry.setFavoriteCount(plus(entry.getFavoriteCount(), delta.favorites()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.entry-counters.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        Map<UUID, Delta> written = new HashMap<>();
+        // Sabit sıralama - eşzamanlı UPDATE'lerle deadlock olmasın
+        pending.keySet().stream().sorted().forEach(entryId -> {
+            Delta delta = pending.get(entryId);
+            if (delta == null) {
+                return;
+            }
+            if (delta.isZero()) {
+                pending.remove(entryId, delta);
+                return;
+            }
+            batch.add(new Object[]{delta.likes(), delta.dislikes(), delta.favorites(), entryId});
+            written.put(entryId, delta);
+        });
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (RuntimeException e) {
+            // Farklar pending'de duruyor, bir sonraki flush tekrar dener
+            log.warn("Entry counter flush failed for {} entries, will retry: {}", batch.size(), e.getMessage());
+            return;
+        }
+        // Yalnızca yazılan kadarını düş; bu arada gelen oylar pending'de kalır
+        written.forEach((entryId, delta) -> pending.computeIfPresent(entryId, (id, current) -> {
+            Delta rest = current.minus(delta);
+            return rest.isZero() ? null : rest;
+        }));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static Integer plus(Integer base, long delta) {
+        return (int) Math.max(0, (base != null ? base : 0) + delta);
+    }
+
+    private record Delta(long likes, long dislikes, long favorites) {
+
+        Delta plus(Delta other) {
+            return new Delta(likes + other.likes, dislikes + other.dislikes, favorites + other.favorites);
+        }
+
+        Delta minus(Delta other) {
+            return new Delta(likes - other.likes, dislikes - other.dislikes, favorites - other.favorites);
+        }
+
+        boolean isZero() {
+            return likes == 0 && dislikes == 0 && favorites == 0;
+        }
+    }
+}
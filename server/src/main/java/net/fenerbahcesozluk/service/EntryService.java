@@ -1,18 +1,21 @@
 package net.fenerbahcesozluk.service;
 
 import lombok.RequiredArgsConstructor;
+import net.fenerbahcesozluk.cache.VoteStateCache;
+import net.fenerbahcesozluk.dto.CursorPage;
 import net.fenerbahcesozluk.dto.EntryRequest;
 import net.fenerbahcesozluk.dto.EntryResponse;
 import net.fenerbahcesozluk.entity.Entry;
 import net.fenerbahcesozluk.entity.Topic;
 import net.fenerbahcesozluk.entity.User;
-import net.fenerbahcesozluk.entity.Vote;
 import net.fenerbahcesozluk.enums.VoteType;
 import net.fenerbahcesozluk.exception.BusinessException;
 import net.fenerbahcesozluk.repository.EntryRepository;
 import net.fenerbahcesozluk.repository.TopicRepository;
-import net.fenerbahcesozluk.repository.VoteRepository;
+import net.fenerbahcesozluk.util.CursorUtils;
+import net.fenerbahcesozluk.util.TimeUtils;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -21,9 +24,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -31,16 +37,28 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class EntryService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    // Open bounds for cursor queries without a date filter
+    private static final LocalDateTime KEYSET_MIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime KEYSET_MAX = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final EntryRepository entryRepository;
     private final TopicRepository topicRepository;
-    private final VoteRepository voteRepository;
-    private final StatsService statsService;
-    private final TopicService topicService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final TopicDailyCountService dailyCountService;
+    private final SidebarRankingService sidebarRankingService;
+    private final TrendingTopicService trendingTopicService;
+    private final PopularTopicService popularTopicService;
     private final WebSocketService webSocketService;
+    private final VoteBatchWriter voteBatchWriter;
+    private final VoteStateCache voteStateCache;
+    private final EntryCounterBuffer entryCounterBuffer;
 
     public Page<EntryResponse> getEntriesByTopic(UUID topicId, User currentUser, Pageable pageable) {
-        Page<Entry> entries = entryRepository.findByTopicIdAndIsActiveTrueOrderByCreatedAtAsc(topicId, pageable);
-        return toResponsePage(entries, currentUser);
+        Page<EntryResponse> entries = entryRepository.findByTopicIdAndIsActiveTrueOrderByCreatedAtAsc(topicId,
+                pageable);
+        return withUserVotes(entries, currentUser);
     }
 
     /**
@@ -55,22 +73,22 @@ public class EntryService {
             return getEntriesByTopic(topicId, currentUser, pageable);
         }
 
-        LocalDate today = LocalDate.now();
-        Page<Entry> entries;
+        LocalDate today = TimeUtils.today();
+        Page<EntryResponse> entries;
 
         switch (dateFilter.toLowerCase()) {
             case "today" -> {
-                LocalDateTime todayStart = today.atStartOfDay();
-                LocalDateTime todayEnd = today.plusDays(1).atStartOfDay();
+                LocalDateTime todayStart = TimeUtils.startOfDay(today);
+                LocalDateTime todayEnd = TimeUtils.startOfDay(today.plusDays(1));
                 entries = entryRepository.findByTopicIdAndDateRange(topicId, todayStart, todayEnd, pageable);
             }
             case "yesterday" -> {
-                LocalDateTime yesterdayStart = today.minusDays(1).atStartOfDay();
-                LocalDateTime yesterdayEnd = today.atStartOfDay();
+                LocalDateTime yesterdayStart = TimeUtils.startOfDay(today.minusDays(1));
+                LocalDateTime yesterdayEnd = TimeUtils.startOfDay(today);
                 entries = entryRepository.findByTopicIdAndDateRange(topicId, yesterdayStart, yesterdayEnd, pageable);
             }
             case "older" -> {
-                LocalDateTime yesterdayStart = today.minusDays(1).atStartOfDay();
+                LocalDateTime yesterdayStart = TimeUtils.startOfDay(today.minusDays(1));
                 entries = entryRepository.findByTopicIdBefore(topicId, yesterdayStart, pageable);
             }
             default -> {
@@ -78,67 +96,134 @@ public class EntryService {
             }
         }
 
-        return toResponsePage(entries, currentUser);
+        return withUserVotes(entries, currentUser);
+    }
+
+    /**
+     * Keyset (cursor) pagination for topic entries. Pages are ordered by
+     * (createdAt, id), so deep pages cost the same as the first one and no COUNT
+     * query is needed.
+     *
+     * @param dateFilter:
+     *            "today", "yesterday", "older", or null for all
+     * @param cursor:
+     *            opaque cursor from a previous page, or null for the first page
+     */
+    public CursorPage<EntryResponse> getEntriesByTopicCursor(UUID topicId, String dateFilter, String cursor,
+            int size, User currentUser) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        // Fetch one extra row to find out whether there is another page
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        LocalDate today = TimeUtils.today();
+        LocalDateTime start = KEYSET_MIN;
+        LocalDateTime end = KEYSET_MAX;
+        switch (dateFilter == null ? "" : dateFilter.toLowerCase()) {
+            case "today" -> {
+                start = TimeUtils.startOfDay(today);
+                end = TimeUtils.startOfDay(today.plusDays(1));
+            }
+            case "yesterday" -> {
+                start = TimeUtils.startOfDay(today.minusDays(1));
+                end = TimeUtils.startOfDay(today);
+            }
+            case "older" -> end = TimeUtils.startOfDay(today.minusDays(1));
+            default -> {
+            }
+        }
+
+        if (cursor == null || cursor.isEmpty()) {
+            List<EntryResponse> rows = entryRepository.findKeysetFirstPage(topicId, start, end, limit);
+            return toCursorPage(rows, pageSize, false, rows.size() > pageSize, currentUser);
+        }
+
+        CursorUtils.Position position;
+        try {
+            position = CursorUtils.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Geçersiz sayfa imleci", HttpStatus.BAD_REQUEST);
+        }
+
+        if (position.forward()) {
+            List<EntryResponse> rows = entryRepository.findKeysetAfter(topicId, start, end, position.createdAt(),
+                    position.id(), limit);
+            return toCursorPage(rows, pageSize, true, rows.size() > pageSize, currentUser);
+        }
+
+        // Backward scroll reads in descending order, then restores ascending order
+        List<EntryResponse> rows = new ArrayList<>(
+                entryRepository.findKeysetBefore(topicId, start, end, position.createdAt(), position.id(), limit));
+        boolean hasPrevious = rows.size() > pageSize;
+        if (hasPrevious) {
+            rows = rows.subList(0, pageSize);
+        }
+        Collections.reverse(rows);
+        return toCursorPage(rows, pageSize, hasPrevious, true, currentUser);
     }
 
     public Page<EntryResponse> getEntriesByAuthor(UUID authorId, User currentUser, Pageable pageable) {
-        Page<Entry> entries = entryRepository.findByAuthorIdAndIsActiveTrueOrderByCreatedAtDesc(authorId, pageable);
-        return toResponsePage(entries, currentUser);
+        Page<EntryResponse> entries = entryRepository.findByAuthorIdAndIsActiveTrueOrderByCreatedAtDesc(authorId,
+                pageable);
+        return withUserVotes(entries, currentUser);
     }
 
     public Page<EntryResponse> getPopularEntries(User currentUser, Pageable pageable) {
-        Page<Entry> entries = entryRepository.findPopularEntries(pageable);
-        return toResponsePage(entries, currentUser);
+        Page<EntryResponse> entries = entryRepository.findPopularEntries(pageable);
+        return withUserVotes(entries, currentUser);
     }
 
     public Page<EntryResponse> getHistoryEntries(User currentUser, Pageable pageable) {
         LocalDateTime now = LocalDateTime.now();
-        Page<Entry> entries = entryRepository.findHistoryEntries(now.getDayOfMonth(), now.getMonthValue(),
+        Page<EntryResponse> entries = entryRepository.findHistoryEntries(now.getDayOfMonth(), now.getMonthValue(),
                 now.getYear(), pageable);
-        return toResponsePage(entries, currentUser);
+        return withUserVotes(entries, currentUser);
     }
 
     public Page<EntryResponse> getLatestEntries(User currentUser, Pageable pageable) {
-        Page<Entry> entries = entryRepository.findLatestEntries(pageable);
-        return toResponsePage(entries, currentUser);
+        Page<EntryResponse> entries = entryRepository.findLatestEntries(pageable);
+        return withUserVotes(entries, currentUser);
     }
 
     public Page<EntryResponse> getRandomEntries(User currentUser, Pageable pageable) {
-        Page<Entry> entries = entryRepository.findRandomEntries(pageable);
-        return toResponsePage(entries, currentUser);
+        // Pick random ids first, then load the picked rows with a single projection
+        Page<UUID> ids = entryRepository.findRandomEntryIds(pageable);
+        Map<UUID, EntryResponse> byId = new HashMap<>();
+        if (!ids.isEmpty()) {
+            entryRepository.findResponsesByIds(ids.getContent()).forEach(entry -> byId.put(entry.getId(), entry));
+        }
+        // Rastgele sıra korunur; iki sorgu arasında silinen entry'ler atlanır
+        List<EntryResponse> entries = ids.getContent().stream().map(byId::get).filter(Objects::nonNull).toList();
+        return withUserVotes(new PageImpl<>(entries, ids.getPageable(), ids.getTotalElements()), currentUser);
     }
 
     public EntryResponse getRandomPopularEntry(User currentUser) {
         // Fetch top 20 popular entries from high-entry topics, then pick one randomly
-        List<Entry> entries = entryRepository.findPopularEntriesFromTopTopics(PageRequest.of(0, 20));
+        List<EntryResponse> entries = entryRepository.findPopularEntriesFromTopTopics(PageRequest.of(0, 20));
         if (entries.isEmpty()) {
             return null;
         }
-        // Pick a random entry from the list - single entry so toResponse is fine
         int randomIndex = (int) (Math.random() * entries.size());
-        return toResponse(entries.get(randomIndex), currentUser);
+        return withUserVote(entries.get(randomIndex), currentUser);
     }
 
     public List<EntryResponse> getFavoriteEntriesByUserId(UUID userId, User currentUser) {
-        List<Entry> favoriteEntries = voteRepository.findByUserIdAndVoteType(userId, VoteType.FAVORITE).stream()
-                .map(Vote::getEntry).filter(Entry::isActive).collect(Collectors.toList());
-        return toResponseList(favoriteEntries, currentUser);
+        return withUserVotes(entryRepository.findFavoritesByUserId(userId), currentUser);
     }
 
     public List<EntryResponse> getTopLikedByAuthor(UUID authorId, User currentUser, int limit) {
-        List<Entry> entries = entryRepository.findTopLikedByAuthor(authorId, PageRequest.of(0, limit));
-        return toResponseList(entries, currentUser);
+        List<EntryResponse> entries = entryRepository.findTopLikedByAuthor(authorId, PageRequest.of(0, limit));
+        return withUserVotes(entries, currentUser);
     }
 
     public List<EntryResponse> getTopFavoritedByAuthor(UUID authorId, User currentUser, int limit) {
-        List<Entry> entries = entryRepository.findTopFavoritedByAuthor(authorId, PageRequest.of(0, limit));
-        return toResponseList(entries, currentUser);
+        List<EntryResponse> entries = entryRepository.findTopFavoritedByAuthor(authorId, PageRequest.of(0, limit));
+        return withUserVotes(entries, currentUser);
     }
 
     public EntryResponse getEntryById(UUID id, User currentUser) {
-        Entry entry = entryRepository.findById(id)
+        EntryResponse entry = entryRepository.findResponseById(id)
                 .orElseThrow(() -> new BusinessException("Entry bulunamadı", HttpStatus.NOT_FOUND));
-        return toResponse(entry, currentUser);
+        return withUserVote(entry, currentUser);
     }
 
     @Transactional
@@ -154,10 +239,15 @@ public class EntryService {
 
         Entry saved = entryRepository.save(entry);
         topicRepository.incrementEntryCount(topic.getId());
-        statsService.evictStatsCache();
-        topicService.evictTopicCaches();
+        popularTopicService.recordEntryCountChange(topic.getId(), 1);
+        dailyCountService.recordEntryCreated(topic.getId(), saved.getCreatedAt());
+        sidebarRankingService.recordEntry(topic.getId(), saved.getCreatedAt(), 1);
+        trendingTopicService.recordEntry(topic.getId(), saved.getCreatedAt(), 1);
+        cacheInvalidationService.invalidateTopic(topic.getId());
+        cacheInvalidationService.invalidateAuthor(author);
 
-        EntryResponse response = toResponse(saved, author);
+        // A brand new entry cannot have votes yet
+        EntryResponse response = toResponseWithVote(saved, null);
 
         // Broadcast to WebSocket subscribers
         webSocketService.broadcastNewEntry(topic.getId(), response);
@@ -183,6 +273,7 @@ public class EntryService {
         entry.setContent(newContent);
         entry.setEdited(true);
         Entry saved = entryRepository.save(entry);
+        cacheInvalidationService.invalidateEntry(entryId);
 
         return toResponse(saved, currentUser);
     }
@@ -205,47 +296,63 @@ public class EntryService {
         entry.setDeleteReason(reason);
         entryRepository.save(entry);
         topicRepository.decrementEntryCount(entry.getTopic().getId());
-        statsService.evictStatsCache();
-        topicService.evictTopicCaches();
+        popularTopicService.recordEntryCountChange(entry.getTopic().getId(), -1);
+        dailyCountService.recordEntryDeleted(entry.getTopic().getId(), entry.getCreatedAt());
+        sidebarRankingService.recordEntry(entry.getTopic().getId(), entry.getCreatedAt(), -1);
+        trendingTopicService.recordEntry(entry.getTopic().getId(), entry.getCreatedAt(), -1);
+        cacheInvalidationService.invalidateTopic(entry.getTopic().getId());
+        cacheInvalidationService.invalidateAuthor(entry.getAuthor());
+        cacheInvalidationService.invalidateEntry(entryId);
     }
 
-    // Batch-optimized page conversion - loads all votes in one query
-    private Page<EntryResponse> toResponsePage(Page<Entry> entries, User currentUser) {
-        if (entries.isEmpty()) {
-            return entries.map(e -> toResponseWithVote(e, null));
-        }
+    // Batch vote overlay for a page - one vote state lookup
+    private Page<EntryResponse> withUserVotes(Page<EntryResponse> entries, User currentUser) {
+        withUserVotes(entries.getContent(), currentUser);
+        return entries;
+    }
 
-        // Batch load votes for all entries
-        Map<UUID, VoteType> userVotes = Collections.emptyMap();
-        if (currentUser != null) {
-            List<UUID> entryIds = entries.stream().map(Entry::getId).collect(Collectors.toList());
-            userVotes = voteRepository.findByEntryIdsAndUserId(entryIds, currentUser.getId()).stream()
-                    .collect(Collectors.toMap(v -> v.getEntry().getId(), Vote::getVoteType));
+    private CursorPage<EntryResponse> toCursorPage(List<EntryResponse> rows, int pageSize, boolean hasPrevious,
+            boolean hasNext, User currentUser) {
+        List<EntryResponse> pageRows = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+        if (pageRows.isEmpty()) {
+            return CursorPage.<EntryResponse>builder().content(Collections.emptyList()).size(pageSize).build();
         }
 
-        final Map<UUID, VoteType> votes = userVotes;
-        return entries.map(entry -> toResponseWithVote(entry, votes.get(entry.getId())));
+        EntryResponse first = pageRows.get(0);
+        EntryResponse last = pageRows.get(pageRows.size() - 1);
+        return CursorPage.<EntryResponse>builder().content(withUserVotes(pageRows, currentUser)).size(pageSize)
+                .hasPrevious(hasPrevious).hasNext(hasNext)
+                .prevCursor(hasPrevious ? CursorUtils.before(first.getCreatedAt(), first.getId()) : null)
+                .nextCursor(hasNext ? CursorUtils.after(last.getCreatedAt(), last.getId()) : null).build();
     }
 
-    // Batch-optimized list conversion
-    private List<EntryResponse> toResponseList(List<Entry> entries, User currentUser) {
-        if (entries.isEmpty()) {
-            return Collections.emptyList();
+    // Batch vote overlay for a list - one vote state lookup
+    private List<EntryResponse> withUserVotes(List<EntryResponse> entries, User currentUser) {
+        entryCounterBuffer.applyPending(entries);
+        if (entries.isEmpty() || currentUser == null) {
+            return entries;
         }
 
-        Map<UUID, VoteType> userVotes = Collections.emptyMap();
+        List<UUID> entryIds = entries.stream().map(EntryResponse::getId).collect(Collectors.toList());
+        Map<UUID, VoteType> votes = voteStateCache.getVotes(currentUser.getId(), entryIds);
+
+        // Henüz yazılmamış oylar kayıtlı oyun yerine geçer
+        entries.forEach(entry -> entry.setCurrentUserVote(
+                voteBatchWriter.overlay(entry.getId(), currentUser.getId(), votes.get(entry.getId()))));
+        return entries;
+    }
+
+    // Single entry vote overlay
+    private EntryResponse withUserVote(EntryResponse entry, User currentUser) {
+        entryCounterBuffer.applyPending(entry);
         if (currentUser != null) {
-            List<UUID> entryIds = entries.stream().map(Entry::getId).collect(Collectors.toList());
-            userVotes = voteRepository.findByEntryIdsAndUserId(entryIds, currentUser.getId()).stream()
-                    .collect(Collectors.toMap(v -> v.getEntry().getId(), Vote::getVoteType));
+            VoteType stored = voteStateCache.getVote(currentUser.getId(), entry.getId());
+            entry.setCurrentUserVote(voteBatchWriter.overlay(entry.getId(), currentUser.getId(), stored));
         }
-
-        final Map<UUID, VoteType> votes = userVotes;
-        return entries.stream().map(entry -> toResponseWithVote(entry, votes.get(entry.getId())))
-                .collect(Collectors.toList());
+        return entry;
     }
 
-    // Single entry response with pre-loaded vote
+    // Response for an entity already in hand (create/update)
     private EntryResponse toResponseWithVote(Entry entry, VoteType currentUserVote) {
         return EntryResponse.builder().id(entry.getId()).content(entry.getContent()).topicId(entry.getTopic().getId())
                 .topicTitle(entry.getTopic().getTitle()).authorId(entry.getAuthor().getId())
@@ -255,17 +362,16 @@ public class EntryService {
                 .updatedAt(entry.getUpdatedAt()).build();
     }
 
-    // Keep original for single entry lookups
     private EntryResponse toResponse(Entry entry, User currentUser) {
         VoteType currentUserVote = null;
 
         if (currentUser != null) {
-            Vote vote = voteRepository.findByEntryIdAndUserId(entry.getId(), currentUser.getId()).orElse(null);
-            if (vote != null) {
-                currentUserVote = vote.getVoteType();
-            }
+            currentUserVote = voteBatchWriter.overlay(entry.getId(), currentUser.getId(),
+                    voteStateCache.getVote(currentUser.getId(), entry.getId()));
         }
 
-        return toResponseWithVote(entry, currentUserVote);
+        EntryResponse response = toResponseWithVote(entry, currentUserVote);
+        entryCounterBuffer.applyPending(response);
+        return response;
     }
 }
@@ -1,14 +1,26 @@
 package net.fenerbahcesozluk.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -17,17 +29,42 @@ import java.util.function.Function;
 @Service
 public class JwtService {
 
-    @Value("${app.jwt.secret}")
-    private String secretKey;
-
-    @Value("${app.jwt.expiration}")
-    private long jwtExpiration;
+    private final SecretKey signInKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
+    private final long rememberMeExpiration;
+    private final long maxCacheNanos;
+
+    // Doğrulanmış token'lar, SHA-256 özeti ile; token'ın kendisi bellekte tutulmaz
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtService(@Value("${app.jwt.secret}") String secretKey, @Value("${app.jwt.expiration}") long jwtExpiration,
+            @Value("${app.jwt.remember-me-expiration}") long rememberMeExpiration,
+            @Value("${app.jwt.verified-cache.max-size:10000}") long cacheSize,
+            @Value("${app.jwt.verified-cache.ttl:1m}") Duration cacheTtl, MeterRegistry meterRegistry) {
+        // Anahtar ve parser bir kez kurulur; ikisi de thread-safe
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parser().verifyWith(signInKey).build();
+        this.jwtExpiration = jwtExpiration;
+        this.rememberMeExpiration = rememberMeExpiration;
+        this.maxCacheNanos = cacheTtl.toNanos();
+        this.verifiedTokens = Caffeine.newBuilder().maximumSize(cacheSize).expireAfter(new TokenExpiry())
+                .recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt_tokens", Tags.of("level", "l1"));
+    }
 
-    @Value("${app.jwt.remember-me-expiration}")
-    private long rememberMeExpiration;
+    /**
+     * Token'ı imza ve süre kontrolüyle bir kez çözer. Sonuç, token'ın süresi
+     * dolana kadar (en fazla app.jwt.verified-cache.ttl) cache'lenir. Geçersiz
+     * token'da {@link io.jsonwebtoken.JwtException} fırlatılır ve sonuç
+     * cache'lenmez.
+     */
+    public VerifiedToken verify(String token) {
+        return verifiedTokens.get(hash(token), key -> VerifiedToken.of(extractAllClaims(token)));
+    }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -55,29 +92,24 @@ public class JwtService {
     private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
         return Jwts.builder().claims(extraClaims).subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration)).signWith(getSignInKey()).compact();
+                .expiration(new Date(System.currentTimeMillis() + expiration)).signWith(signInKey).compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return verify(token).isValidFor(userDetails);
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser().verifyWith(getSignInKey()).build().parseSignedClaims(token).getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     /**
@@ -86,4 +118,42 @@ public class JwtService {
     public long getExpirationDuration(boolean rememberMe) {
         return rememberMe ? rememberMeExpiration : jwtExpiration;
     }
+
+    /**
+     * İmzası doğrulanmış token'ın değişmez özeti.
+     */
+    public record VerifiedToken(String subject, long expiresAtMillis) {
+
+        static VerifiedToken of(Claims claims) {
+            return new VerifiedToken(claims.getSubject(), claims.getExpiration().getTime());
+        }
+
+        public boolean isExpired() {
+            return expiresAtMillis <= System.currentTimeMillis();
+        }
+
+        public boolean isValidFor(UserDetails userDetails) {
+            return subject.equals(userDetails.getUsername()) && !isExpired();
+        }
+    }
+
+    // Kayıt token'ın süresi dolduğunda ya da en geç maxCacheNanos sonra düşer
+    private class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long untilExpiry = (value.expiresAtMillis() - System.currentTimeMillis()) * 1_000_000L;
+            return Math.max(0, Math.min(untilExpiry, maxCacheNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -43,7 +43,7 @@ public class NewsService {
     private static final List<String> KEYWORDS = List.of("Fenerbahçe", "Fenerbahce", "Sarı Kanarya", "Sarı Lacivert",
             "FB", "Kadıköy");
 
-    @Cacheable(value = "news_v2", key = "'page_' + #pageable.pageNumber + '_size_' + #pageable.pageSize")
+    @Cacheable(value = "news_v2", key = "'page_' + #pageable.pageNumber + '_size_' + #pageable.pageSize", sync = true)
     public Page<News> getNews(Pageable pageable) {
         Page<News> page = newsRepository.findAllByOrderByPubDateDesc(pageable);
         return new RestPage<>(new ArrayList<>(page.getContent()), pageable, page.getTotalElements());
@@ -0,0 +1,126 @@
+package net.fenerbahcesozluk.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.fenerbahcesozluk.cache.RedisCircuitBreaker;
+import net.fenerbahcesozluk.dto.RestPage;
+import net.fenerbahcesozluk.dto.TopicResponse;
+import net.fenerbahcesozluk.repository.TopicRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Popüler başlıklar sıralaması: skor = başlığın entry sayısı. Entry sayacı her
+ * değiştiğinde sorted set de artımlı güncellenir, böylece yazma işlemleri cache
+ * temizlemeye gerek bırakmaz.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PopularTopicService {
+
+    private static final String SCORE_KEY = "popular:score";
+    private static final String READY_KEY = "popular:ready";
+    private static final Duration READY_TTL = Duration.ofDays(2);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisTopicRanking ranking;
+    private final TopicRepository topicRepository;
+    private final RedisCircuitBreaker breaker;
+
+    private volatile boolean ready;
+
+    /**
+     * Ranked popular page. Empty when the ranking is not built yet or Redis is
+     * unavailable, in which case the caller falls back to the database query.
+     */
+    public Optional<Page<TopicResponse>> getPage(Pageable pageable) {
+        return ready ? ranking.page(SCORE_KEY, pageable) : Optional.empty();
+    }
+
+    /**
+     * Fallback page straight from the database. Cached, and only one caller per
+     * page runs the query when the cache is cold.
+     */
+    @Cacheable(value = "popularTopics_v2", key = "#pageNumber + '_' + #pageSize", sync = true)
+    public Page<TopicResponse> getPageFromDatabase(int pageNumber, int pageSize) {
+        Page<TopicResponse> page = topicRepository.findPopularTopics(PageRequest.of(pageNumber, pageSize));
+        return new RestPage<>(new ArrayList<>(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    // topics.entry_count commit edilince güncellenir; Redis erişilemezken kaçan
+    // artışlar 04:50'deki reconcile ile düzelir
+    public void recordEntryCountChange(UUID topicId, int delta) {
+        ranking.afterCommit(() -> ranking.increment(SCORE_KEY, topicId, delta));
+    }
+
+    public void removeTopic(UUID topicId) {
+        ranking.afterCommit(() -> ranking.remove(List.of(SCORE_KEY), topicId));
+    }
+
+    public void mergeTopics(UUID sourceTopicId, UUID targetTopicId) {
+        ranking.afterCommit(() -> ranking.move(List.of(SCORE_KEY), sourceTopicId, targetTopicId));
+    }
+
+    // Sıralamayı topics.entry_count'tan yeniden kurar
+    @Scheduled(cron = "0 50 4 * * ?", zone = "Europe/Istanbul")
+    public void reconcile() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Popular topics reconcile failed: {}", e.getMessage());
+        }
+    }
+
+    // Açılışta ve Redis verisi kaybolursa (ör. yeniden başlatma) sıralamayı kur
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void ensureBuilt() {
+        try {
+            Boolean built = breaker.call(() -> redisTemplate.hasKey(READY_KEY), null);
+            if (built == null) {
+                // Redis erişilemiyor; bir sonraki kontrolde tekrar denenir
+                ready = false;
+            } else if (built) {
+                ready = true;
+            } else {
+                ready = false;
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            ready = false;
+            log.warn("Popular topics ranking check failed: {}", e.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        if (!ranking.isAvailable()) {
+            log.warn("Popular topics rebuild skipped, Redis unavailable");
+            return;
+        }
+        Map<UUID, Integer> scores = topicRepository.findActiveEntryCounts().stream()
+                .collect(Collectors.toMap(row -> (UUID) row[0], row -> ((Number) row[1]).intValue()));
+        if (!ranking.replace(SCORE_KEY, scores, null)
+                || !breaker.run(() -> redisTemplate.opsForValue().set(READY_KEY, "1", READY_TTL))) {
+            log.warn("Popular topics rebuild interrupted, Redis unavailable");
+            return;
+        }
+        ready = true;
+        log.info("Popular topics ranking rebuilt: {} topics", scores.size());
+    }
+}
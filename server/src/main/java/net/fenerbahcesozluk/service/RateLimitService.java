@@ -1,136 +1,65 @@
 package net.fenerbahcesozluk.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.fenerbahcesozluk.config.RateLimitProperties;
+import net.fenerbahcesozluk.ratelimit.LocalRateLimiter;
+import net.fenerbahcesozluk.ratelimit.RateLimitDecision;
+import net.fenerbahcesozluk.ratelimit.RateLimitPolicy;
+import net.fenerbahcesozluk.ratelimit.RateLimiter;
+import net.fenerbahcesozluk.ratelimit.RedisRateLimiter;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
 /**
- * In-memory rate limiting service. Limits requests per IP for specific
- * endpoints.
+ * Uç bazlı hız sınırı (login, entry-create, vote...). Limitler ve her limitin
+ * backend'i app.rate-limit altında tanımlanır; tanımsız uçlar sınırsızdır.
  */
 @Service
 public class RateLimitService {
 
-    // Map to store request counts: key = "endpoint:ip", value = RequestInfo
-    private final Map<String, RequestInfo> requestCounts = new ConcurrentHashMap<>();
+    private final Map<String, Route> routes = new HashMap<>();
 
-    // Rate limit configurations
-    private static final Map<String, RateLimitConfig> RATE_LIMITS = Map.of("login", new RateLimitConfig(5, 1), // 5 per
-                                                                                                               // minute
-            "register", new RateLimitConfig(3, 60), // 3 per hour
-            "forgot-password", new RateLimitConfig(3, 60), // 3 per hour
-            "contact", new RateLimitConfig(3, 60), // 3 per hour
-            "entry-create", new RateLimitConfig(10, 1), // 10 per minute
-            "topic-create", new RateLimitConfig(5, 5), // 5 per 5 minutes
-            "vote", new RateLimitConfig(30, 1) // 30 per minute
-    );
-
-    /**
-     * Check if the request should be rate limited.
-     * 
-     * @param endpoint
-     *            The endpoint type
-     * @param ip
-     *            The client IP address
-     * @return true if the request is allowed, false if rate limited
-     */
-    public boolean isAllowed(String endpoint, String ip) {
-        RateLimitConfig config = RATE_LIMITS.get(endpoint);
-        if (config == null) {
-            return true; // No rate limiting for unconfigured endpoints
+    public RateLimitService(RateLimitProperties properties, LocalRateLimiter localRateLimiter,
+            RedisRateLimiter redisRateLimiter, MeterRegistry meterRegistry) {
+        // id'ler sabit sırayla verilir; node içi anahtarlar limit id'sini içerir
+        List<String> names = new ArrayList<>(properties.getLimits().keySet());
+        names.sort(null);
+        if (names.size() > 255) {
+            throw new IllegalStateException("En fazla 255 hız sınırı tanımlanabilir");
         }
 
-        String key = endpoint + ":" + ip;
-        long now = System.currentTimeMillis();
-        long windowMs = TimeUnit.MINUTES.toMillis(config.windowMinutes);
-
-        RequestInfo info = requestCounts.compute(key, (k, existing) -> {
-            if (existing == null || now - existing.windowStart > windowMs) {
-                // Start new window
-                return new RequestInfo(now, 1);
-            } else {
-                // Increment count in existing window
-                existing.count++;
-                return existing;
-            }
-        });
-
-        return info.count <= config.maxRequests;
-    }
-
-    /**
-     * Get remaining requests for an endpoint/IP combination.
-     */
-    public int getRemainingRequests(String endpoint, String ip) {
-        RateLimitConfig config = RATE_LIMITS.get(endpoint);
-        if (config == null) {
-            return Integer.MAX_VALUE;
-        }
-
-        String key = endpoint + ":" + ip;
-        long now = System.currentTimeMillis();
-        long windowMs = TimeUnit.MINUTES.toMillis(config.windowMinutes);
-
-        RequestInfo info = requestCounts.get(key);
-        if (info == null || now - info.windowStart > windowMs) {
-            return config.maxRequests;
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            RateLimitProperties.Limit limit = properties.getLimits().get(name);
+            RateLimitProperties.Backend backend = properties.backendFor(limit);
+            routes.put(name, new Route(RateLimitPolicy.of(name, i + 1, limit, backend),
+                    backend == RateLimitProperties.Backend.REDIS ? redisRateLimiter : localRateLimiter,
+                    meterRegistry.counter("ratelimit.rejected", "limit", name)));
         }
-
-        return Math.max(0, config.maxRequests - info.count);
     }
 
     /**
-     * Get seconds until rate limit resets.
+     * Verilen anahtar (IP, kullanıcı...) için limitten bir istek tüketir. Kalan
+     * hak ve bekleme süresi aynı sonuçta döner; ayrıca sorgu gerekmez.
      */
-    public long getSecondsUntilReset(String endpoint, String ip) {
-        RateLimitConfig config = RATE_LIMITS.get(endpoint);
-        if (config == null) {
-            return 0;
+    public RateLimitDecision tryAcquire(String endpoint, String key) {
+        Route route = routes.get(endpoint);
+        if (route == null) {
+            return RateLimitDecision.UNLIMITED;
         }
 
-        String key = endpoint + ":" + ip;
-        long now = System.currentTimeMillis();
-        long windowMs = TimeUnit.MINUTES.toMillis(config.windowMinutes);
-
-        RequestInfo info = requestCounts.get(key);
-        if (info == null) {
-            return 0;
+        RateLimitDecision decision = route.limiter().tryAcquire(route.policy(), key);
+        if (!decision.allowed()) {
+            route.rejected().increment();
         }
-
-        long resetTime = info.windowStart + windowMs;
-        return Math.max(0, (resetTime - now) / 1000);
-    }
-
-    /**
-     * Periodically clean up expired entries (call this from a scheduled task if
-     * needed)
-     */
-    public void cleanup() {
-        long now = System.currentTimeMillis();
-        long maxWindow = TimeUnit.MINUTES.toMillis(60); // Use longest window (1 hour)
-
-        requestCounts.entrySet().removeIf(entry -> now - entry.getValue().windowStart > maxWindow);
+        return decision;
     }
 
-    private static class RateLimitConfig {
-        final int maxRequests;
-        final long windowMinutes;
-
-        RateLimitConfig(int maxRequests, long windowMinutes) {
-            this.maxRequests = maxRequests;
-            this.windowMinutes = windowMinutes;
-        }
-    }
-
-    private static class RequestInfo {
-        long windowStart;
-        int count;
-
-        RequestInfo(long windowStart, int count) {
-            this.windowStart = windowStart;
-            this.count = count;
-        }
+    private record Route(RateLimitPolicy policy, RateLimiter limiter, Counter rejected) {
     }
 }
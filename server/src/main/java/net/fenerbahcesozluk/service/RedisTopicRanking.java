@@ -0,0 +1,227 @@
+package net.fenerbahcesozluk.service;
+
+import lombok.RequiredArgsConstructor;
+import net.fenerbahcesozluk.cache.RedisCircuitBreaker;
+import net.fenerbahcesozluk.dto.RestPage;
+import net.fenerbahcesozluk.dto.TopicResponse;
+import net.fenerbahcesozluk.repository.TopicRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Redis sorted set üzerinde tutulan başlık sıralamaları için ortak işlemler.
+ * Üye başlık id'si, skor ise sıralama değeridir (entry sayısı vb.). Tüm Redis
+ * çağrıları cache circuit breaker'ından geçer: Redis erişilemezken beklemeden
+ * atlanır, yazmalar false, okumalar boş döner ve çağıran veritabanına düşer.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisTopicRanking {
+
+    private static final int WRITE_CHUNK_SIZE = 1000;
+
+    // Çok sayıda anahtarı tek round-trip'te günceller
+    private static final RedisScript<Long> REMOVE_SCRIPT = RedisScript.of("""
+            for _, key in ipairs(KEYS) do
+                redis.call('ZREM', key, ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> MOVE_SCRIPT = RedisScript.of("""
+            for _, key in ipairs(KEYS) do
+                local score = redis.call('ZSCORE', key, ARGV[1])
+                if score then
+                    redis.call('ZINCRBY', key, score, ARGV[2])
+                    redis.call('ZREM', key, ARGV[1])
+                end
+            end
+            return 0
+            """, Long.class);
+
+    // Artış ve TTL aynı atomik adımda: TTL'siz anahtar kalmaz
+    private static final RedisScript<Long> INCREMENT_EXPIRE_SCRIPT = RedisScript.of("""
+            local score = tonumber(redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1]))
+            if score <= 0 then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final TopicRepository topicRepository;
+    private final RedisCircuitBreaker breaker;
+
+    public boolean isAvailable() {
+        return !breaker.isOpen();
+    }
+
+    /**
+     * Sıralama yazmasını açık transaction commit edildikten sonra çalıştırır;
+     * rollback olursa Redis'e hiç yansımaz. Transaction yoksa hemen çalışır.
+     */
+    public void afterCommit(Runnable write) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write.run();
+                }
+            });
+        } else {
+            write.run();
+        }
+    }
+
+    /**
+     * Skoru delta kadar değiştirir; sıfıra düşen başlık sıralamadan çıkarılır.
+     */
+    public boolean increment(String key, UUID topicId, double delta) {
+        return breaker.run(() -> {
+            ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+            Double score = zSet.incrementScore(key, topicId.toString(), delta);
+            if (score != null && score <= 0) {
+                zSet.remove(key, topicId.toString());
+            }
+        });
+    }
+
+    // increment ile aynı, ek olarak anahtarın TTL'ini yeniler
+    public boolean increment(String key, UUID topicId, double delta, Duration ttl) {
+        return breaker.run(() -> redisTemplate.execute(INCREMENT_EXPIRE_SCRIPT, List.of(key), topicId.toString(),
+                Double.toString(delta), Long.toString(ttl.toSeconds())));
+    }
+
+    public boolean remove(List<String> keys, UUID topicId) {
+        return breaker.run(() -> redisTemplate.execute(REMOVE_SCRIPT, keys, topicId.toString()));
+    }
+
+    // Birleştirmede kaynak başlığın skorlarını hedefe aktarır
+    public boolean move(List<String> keys, UUID sourceTopicId, UUID targetTopicId) {
+        return breaker.run(
+                () -> redisTemplate.execute(MOVE_SCRIPT, keys, sourceTopicId.toString(), targetTopicId.toString()));
+    }
+
+    /**
+     * Sıralamayı verilen skorlarla baştan kurar. Önce geçici anahtara yazılır,
+     * sonra RENAME ile tek adımda yer değiştirilir. Geçici anahtar her kurulumda
+     * benzersizdir; aynı anda kuran replikalar birbirinin yarım kümesini taşımaz.
+     * Redis erişilemezse false döner.
+     */
+    public boolean replace(String key, Map<UUID, ? extends Number> scores, Duration ttl) {
+        return breaker.run(() -> write(key, scores, ttl));
+    }
+
+    private void write(String key, Map<UUID, ? extends Number> scores, Duration ttl) {
+        if (scores.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+
+        String tmpKey = key + ":rebuild:" + UUID.randomUUID();
+        try {
+            Set<ZSetOperations.TypedTuple<String>> chunk = new HashSet<>();
+            for (Map.Entry<UUID, ? extends Number> entry : scores.entrySet()) {
+                chunk.add(ZSetOperations.TypedTuple.of(entry.getKey().toString(), entry.getValue().doubleValue()));
+                if (chunk.size() == WRITE_CHUNK_SIZE) {
+                    redisTemplate.opsForZSet().add(tmpKey, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                redisTemplate.opsForZSet().add(tmpKey, chunk);
+            }
+            redisTemplate.rename(tmpKey, key);
+        } catch (RuntimeException e) {
+            // Yarım kalan geçici küme Redis'te birikmesin
+            redisTemplate.delete(tmpKey);
+            throw e;
+        }
+
+        if (ttl != null) {
+            redisTemplate.expire(key, ttl);
+        }
+    }
+
+    public Optional<Page<TopicResponse>> page(String key, Pageable pageable) {
+        return page(key, pageable, (topic, score) -> {
+            // Skor yanıtta gösterilmiyor
+        });
+    }
+
+    /**
+     * Sıralamanın bir sayfasını yüksek skordan düşüğe döner. Başlık bilgileri tek
+     * sorguyla id'lerden yüklenir, skor {@code scoreSetter} ile yanıta yazılır.
+     * Redis erişilemezse boş döner.
+     */
+    public Optional<Page<TopicResponse>> page(String key, Pageable pageable,
+            BiConsumer<TopicResponse, Integer> scoreSetter) {
+        // Yalnızca Redis kısmı breaker'dan geçer; veritabanı hataları Redis hatası sayılmaz
+        Ranked ranked = breaker.call(() -> rank(key, pageable), null);
+        if (ranked == null) {
+            return Optional.empty();
+        }
+        if (ranked.ids().isEmpty()) {
+            return Optional.of(new RestPage<>(new ArrayList<>(), pageable, ranked.total()));
+        }
+
+        List<UUID> ids = ranked.ids();
+        Map<UUID, Integer> scores = ranked.scores();
+
+        Map<UUID, TopicResponse> byId = new HashMap<>();
+        topicRepository.findActiveResponsesByIds(ids).forEach(topic -> byId.put(topic.getId(), topic));
+
+        // Sıralamayı koru; bu arada silinmiş başlıkları atla
+        List<TopicResponse> content = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            TopicResponse topic = byId.get(id);
+            if (topic != null) {
+                scoreSetter.accept(topic, scores.get(id));
+                content.add(topic);
+            }
+        }
+        return Optional.of(new RestPage<>(content, pageable, ranked.total()));
+    }
+
+    private Ranked rank(String key, Pageable pageable) {
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        Long total = zSet.zCard(key);
+        long start = pageable.getOffset();
+        long end = start + pageable.getPageSize() - 1;
+        Set<ZSetOperations.TypedTuple<String>> tuples = total != null && start < total
+                ? zSet.reverseRangeWithScores(key, start, end)
+                : null;
+
+        List<UUID> ids = new ArrayList<>();
+        Map<UUID, Integer> scores = new HashMap<>();
+        if (tuples != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                UUID id = UUID.fromString(tuple.getValue());
+                ids.add(id);
+                scores.put(id, tuple.getScore() != null ? tuple.getScore().intValue() : 0);
+            }
+        }
+        return new Ranked(ids, scores, total != null ? total : 0);
+    }
+
+    private record Ranked(List<UUID> ids, Map<UUID, Integer> scores, long total) {
+    }
+}
@@ -0,0 +1,205 @@
+package net.fenerbahcesozluk.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.fenerbahcesozluk.cache.RedisCircuitBreaker;
+import net.fenerbahcesozluk.dto.TopicResponse;
+import net.fenerbahcesozluk.repository.TopicDailyEntryCountRepository;
+import net.fenerbahcesozluk.util.TimeUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Sol menüdeki bugün / dün / önceki sıralamalarını Redis sorted set olarak
+ * hazır tutar. Entry ekleme/silmede artımlı güncellenir, gece yarısı (Europe/
+ * Istanbul) bir sonraki güne devredilir. Sıralama hazır değilse veya Redis
+ * erişilemiyorsa çağıran taraf veritabanı sorgusuna döner.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SidebarRankingService {
+
+    private static final Duration KEY_TTL = Duration.ofDays(3);
+
+    private static final String DAY_KEY = "sidebar:day:";
+    private static final String OLDER_KEY = "sidebar:older:";
+    private static final String READY_KEY = "sidebar:ready:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisTopicRanking ranking;
+    private final TopicDailyEntryCountRepository dailyCountRepository;
+    private final RedisCircuitBreaker breaker;
+
+    // Sıralamaların kurulduğu bilinen son gün - her istekte Redis'e sormamak için
+    private volatile LocalDate readyDate;
+
+    /**
+     * Ranked page for "today", "yesterday" or "older". Empty when the rankings are
+     * not available and the caller should query the database instead.
+     */
+    public Optional<Page<TopicResponse>> getPage(String period, Pageable pageable) {
+        LocalDate today = TimeUtils.today();
+        if (!isReady(today)) {
+            return Optional.empty();
+        }
+        return switch (period) {
+            case "today" -> ranking.page(dayKey(today), pageable, TopicResponse::setTodayEntryCount);
+            case "yesterday" -> ranking.page(dayKey(today.minusDays(1)), pageable, TopicResponse::setTodayEntryCount);
+            case "older" -> ranking.page(olderKey(today), pageable, TopicResponse::setOlderEntryCount);
+            default -> Optional.empty();
+        };
+    }
+
+    // Commit sonrası uygulanır; Redis erişilemezken kaçan artışlar 04:30'daki
+    // reconcile ile düzelir
+    public void recordEntry(UUID topicId, LocalDateTime createdAt, int delta) {
+        ranking.afterCommit(() -> {
+            LocalDate today = TimeUtils.today();
+            LocalDate day = TimeUtils.dayOf(createdAt);
+            String key = day.isBefore(today.minusDays(1)) ? olderKey(today) : dayKey(day);
+            ranking.increment(key, topicId, delta);
+        });
+    }
+
+    public void removeTopic(UUID topicId) {
+        ranking.afterCommit(() -> ranking.remove(periodKeys(TimeUtils.today()), topicId));
+    }
+
+    public void mergeTopics(UUID sourceTopicId, UUID targetTopicId) {
+        ranking.afterCommit(() -> ranking.move(periodKeys(TimeUtils.today()), sourceTopicId, targetTopicId));
+    }
+
+    /**
+     * Gece yarısı devir: yeni günün "önceki" kümesi, dünün "önceki" kümesi ile iki
+     * gün önceki günün birleşimidir. Dünün kümeleri yoksa baştan kurulur. Redis
+     * erişilemiyorsa atlanır; ensureBuilt Redis dönünce kurar.
+     */
+    @Scheduled(cron = "0 0 0 * * ?", zone = "Europe/Istanbul")
+    public void rollover() {
+        LocalDate today = TimeUtils.today();
+        LocalDate previous = today.minusDays(1);
+        try {
+            Boolean previousReady = breaker.call(() -> redisTemplate.hasKey(READY_KEY + previous), null);
+            if (previousReady == null) {
+                log.warn("Sidebar ranking rollover skipped, Redis unavailable");
+            } else if (previousReady) {
+                boolean rolled = breaker.run(() -> {
+                    redisTemplate.opsForZSet().unionAndStore(olderKey(previous), dayKey(previous.minusDays(1)),
+                            olderKey(today));
+                    for (String key : periodKeys(today)) {
+                        redisTemplate.expire(key, KEY_TTL);
+                    }
+                });
+                if (rolled) {
+                    markReady(today);
+                }
+            } else {
+                rebuild(today);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Sidebar ranking rollover failed: {}", e.getMessage());
+        }
+    }
+
+    // Gece 4'teki bucket yeniden hesaplamasının ardından sapmaları düzelt
+    @Scheduled(cron = "0 30 4 * * ?", zone = "Europe/Istanbul")
+    public void reconcile() {
+        try {
+            rebuild(TimeUtils.today());
+        } catch (RuntimeException e) {
+            log.warn("Sidebar ranking reconcile failed: {}", e.getMessage());
+        }
+    }
+
+    // Açılışta ve Redis verisi kaybolursa (ör. yeniden başlatma) sıralamaları kur
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void ensureBuilt() {
+        LocalDate today = TimeUtils.today();
+        try {
+            Boolean built = breaker.call(() -> redisTemplate.hasKey(READY_KEY + today), null);
+            if (built == null) {
+                // Redis erişilemiyor; bir sonraki kontrolde tekrar denenir
+                readyDate = null;
+            } else if (!built) {
+                readyDate = null;
+                rebuild(today);
+            }
+        } catch (RuntimeException e) {
+            readyDate = null;
+            log.warn("Sidebar ranking check failed: {}", e.getMessage());
+        }
+    }
+
+    private void rebuild(LocalDate today) {
+        if (!ranking.isAvailable()) {
+            log.warn("Sidebar ranking rebuild skipped, Redis unavailable");
+            return;
+        }
+        LocalDate yesterday = today.minusDays(1);
+        boolean written = ranking.replace(dayKey(today), toScoreMap(dailyCountRepository.sumActiveTopicsOnDate(today)),
+                KEY_TTL)
+                && ranking.replace(dayKey(yesterday),
+                        toScoreMap(dailyCountRepository.sumActiveTopicsOnDate(yesterday)), KEY_TTL)
+                && ranking.replace(olderKey(today), toScoreMap(dailyCountRepository.sumActiveTopicsBefore(yesterday)),
+                        KEY_TTL);
+        if (written && markReady(today)) {
+            log.info("Sidebar rankings rebuilt for {}", today);
+        } else {
+            log.warn("Sidebar ranking rebuild for {} interrupted, Redis unavailable", today);
+        }
+    }
+
+    private boolean isReady(LocalDate today) {
+        if (today.equals(readyDate)) {
+            return true;
+        }
+        if (Boolean.TRUE.equals(breaker.call(() -> redisTemplate.hasKey(READY_KEY + today), false))) {
+            readyDate = today;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean markReady(LocalDate today) {
+        if (!breaker.run(() -> redisTemplate.opsForValue().set(READY_KEY + today, "1", KEY_TTL))) {
+            return false;
+        }
+        readyDate = today;
+        return true;
+    }
+
+    private static List<String> periodKeys(LocalDate today) {
+        return List.of(dayKey(today), dayKey(today.minusDays(1)), olderKey(today));
+    }
+
+    private static String dayKey(LocalDate day) {
+        return DAY_KEY + day;
+    }
+
+    // "Önceki" kümesi, verilen güne göre dünden önceki tüm entry'leri sayar
+    private static String olderKey(LocalDate today) {
+        return OLDER_KEY + today;
+    }
+
+    private static Map<UUID, Long> toScoreMap(List<Object[]> rows) {
+        return rows.stream().collect(Collectors.toMap(row -> (UUID) row[0], row -> ((Number) row[1]).longValue()));
+    }
+}
@@ -7,7 +7,6 @@ import net.fenerbahcesozluk.repository.EntryRepository;
 import net.fenerbahcesozluk.repository.TopicRepository;
 import net.fenerbahcesozluk.repository.UserRepository;
 import net.fenerbahcesozluk.repository.VoteRepository;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
@@ -23,7 +22,7 @@ public class StatsService {
     private final UserRepository userRepository;
     private final VoteRepository voteRepository;
 
-    @Cacheable(value = "stats_v2", key = "'global'")
+    @Cacheable(value = "stats_v2", key = "'global'", sync = true)
     public StatsResponse getStats() {
         long totalEntries = entryRepository.count();
         long totalTopics = topicRepository.count();
@@ -49,9 +48,4 @@ public class StatsService {
                 .totalLikes(totalLikes).totalDislikes(totalDislikes).totalFavorites(totalFavorites)
                 .topAuthors(topAuthors).topTopics(topTopics).build();
     }
-
-    @CacheEvict(value = "stats_v2", allEntries = true)
-    public void evictStatsCache() {
-        // Cache will be evicted
-    }
 }
@@ -0,0 +1,83 @@
+package net.fenerbahcesozluk.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.fenerbahcesozluk.repository.TopicDailyEntryCountRepository;
+import net.fenerbahcesozluk.util.TimeUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Başlık başına günlük entry sayılarını (topic_daily_entry_counts) yönetir.
+ * Bugün/dün/önceki sayıları COUNT sorguları yerine bu önceden toplanmış
+ * satırlardan okunur.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TopicDailyCountService {
+
+    private final TopicDailyEntryCountRepository dailyCountRepository;
+
+    public void recordEntryCreated(UUID topicId, LocalDateTime createdAt) {
+        dailyCountRepository.addToBucket(topicId, TimeUtils.dayOf(createdAt), 1);
+    }
+
+    // Silinen entry, oluşturulduğu günün sayacından düşülür
+    public void recordEntryDeleted(UUID topicId, LocalDateTime createdAt) {
+        dailyCountRepository.addToBucket(topicId, TimeUtils.dayOf(createdAt), -1);
+    }
+
+    public void recordTopicsMerged(UUID sourceTopicId, UUID targetTopicId) {
+        dailyCountRepository.mergeBuckets(sourceTopicId, targetTopicId);
+        dailyCountRepository.deleteByTopicId(sourceTopicId);
+    }
+
+    /**
+     * Her gece 4'te sayaçları entries tablosundan yeniden hesaplar, artımlı
+     * güncellemelerde oluşabilecek sapmaları düzeltir. Tüm replikalarda tetiklenir
+     * ancak advisory lock'u alan tek replika çalıştırır.
+     */
+    @Scheduled(cron = "0 0 4 * * ?", zone = "Europe/Istanbul")
+    @Transactional
+    public void rebuildAll() {
+        if (lockForRebuild()) {
+            rebuild();
+        }
+    }
+
+    // İlk kurulumda tablo boşsa mevcut entry'lerden doldur
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    @Transactional
+    public void rebuildIfEmpty() {
+        // Boşluk kontrolü kilit alındıktan sonra: aynı anda açılan replikalardan
+        // yalnızca ilki doldurur
+        if (lockForRebuild() && dailyCountRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    // DELETE + INSERT aynı transaction'da, tablo kilitliyken çalışır
+    private boolean lockForRebuild() {
+        if (!dailyCountRepository.tryLockRebuild()) {
+            log.info("Topic daily entry count rebuild already running on another instance, skipping");
+            return false;
+        }
+        dailyCountRepository.lockBuckets();
+        return true;
+    }
+
+    private void rebuild() {
+        dailyCountRepository.deleteAllBuckets();
+        int buckets = dailyCountRepository.insertBucketsFromEntries(TimeUtils.storageZoneId());
+        log.info("Topic daily entry counts rebuilt: {} buckets", buckets);
+    }
+}
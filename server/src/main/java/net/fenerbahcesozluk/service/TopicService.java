@@ -1,19 +1,16 @@
 package net.fenerbahcesozluk.service;
 
 import lombok.RequiredArgsConstructor;
-import net.fenerbahcesozluk.dto.RestPage;
 import net.fenerbahcesozluk.dto.TopicRequest;
 import net.fenerbahcesozluk.dto.TopicResponse;
 import net.fenerbahcesozluk.entity.Topic;
 import net.fenerbahcesozluk.entity.User;
 import net.fenerbahcesozluk.exception.BusinessException;
 import net.fenerbahcesozluk.repository.EntryRepository;
+import net.fenerbahcesozluk.repository.TopicDailyEntryCountRepository;
 import net.fenerbahcesozluk.repository.TopicRepository;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import net.fenerbahcesozluk.util.TimeUtils;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -21,8 +18,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,78 +29,79 @@ public class TopicService {
 
     private final TopicRepository topicRepository;
     private final EntryRepository entryRepository;
-    private final StatsService statsService;
+    private final CacheInvalidationService cacheInvalidationService;
     private final WebSocketService webSocketService;
+    private final TopicViewCountBuffer viewCountBuffer;
+    private final TopicDailyEntryCountRepository dailyCountRepository;
+    private final TopicDailyCountService dailyCountService;
+    private final SidebarRankingService sidebarRankingService;
+    private final TrendingTopicService trendingTopicService;
+    private final PopularTopicService popularTopicService;
 
     public Page<TopicResponse> getAllTopics(Pageable pageable) {
-        return topicRepository.findByIsActiveTrueOrderByCreatedAtDesc(pageable).map(this::toResponse);
+        return topicRepository.findByIsActiveTrueOrderByCreatedAtDesc(pageable);
     }
 
+    // Served from the incrementally maintained popular ranking; the cached query
+    // is only the fallback
     public Page<TopicResponse> getPopularTopics(Pageable pageable) {
-        return getPopularTopicsCached(pageable.getPageNumber(), pageable.getPageSize());
-    }
-
-    @Cacheable(value = "popularTopics_v2", key = "#pageNumber")
-    public Page<TopicResponse> getPopularTopicsCached(int pageNumber, int pageSize) {
-        Page<TopicResponse> page = topicRepository.findPopularTopics(PageRequest.of(pageNumber, pageSize))
-                .map(this::toResponse);
-        return new RestPage<>(new ArrayList<>(page.getContent()), page.getPageable(), page.getTotalElements());
+        return popularTopicService.getPage(pageable).orElseGet(
+                () -> popularTopicService.getPageFromDatabase(pageable.getPageNumber(), pageable.getPageSize()));
     }
 
+    // Served from the hourly trending buckets; findTrends stays as the fallback
     public Page<TopicResponse> getTrendingTopics(Pageable pageable) {
-        return getTrendingTopicsCached(pageable.getPageNumber(), pageable.getPageSize());
-    }
-
-    @Cacheable(value = "trendingTopics_v2", key = "#pageNumber")
-    public Page<TopicResponse> getTrendingTopicsCached(int pageNumber, int pageSize) {
-        LocalDateTime thirtyDaysAgo = LocalDate.now().minusDays(30).atStartOfDay();
-        Page<TopicResponse> page = topicRepository.findTrends(thirtyDaysAgo, PageRequest.of(pageNumber, pageSize))
-                .map(this::toResponse);
-        return new RestPage<>(new ArrayList<>(page.getContent()), page.getPageable(), page.getTotalElements());
+        return trendingTopicService.getPage(pageable).orElseGet(
+                () -> trendingTopicService.getPageFromDatabase(pageable.getPageNumber(), pageable.getPageSize()));
     }
 
     /**
-     * Get topics by date period: today, yesterday, or older
+     * Get topics by date period: today, yesterday, or older. Served from the
+     * precomputed sidebar rankings when available.
      */
     public Page<TopicResponse> getTopicsByDatePeriod(String period, Pageable pageable) {
-        LocalDate today = LocalDate.now();
+        String normalized = period.toLowerCase();
+        return sidebarRankingService.getPage(normalized, pageable)
+                .orElseGet(() -> getTopicsByDatePeriodFromDb(normalized, pageable));
+    }
 
-        return switch (period.toLowerCase()) {
+    private Page<TopicResponse> getTopicsByDatePeriodFromDb(String period, Pageable pageable) {
+        LocalDate today = TimeUtils.today();
+
+        return switch (period) {
             case "today" -> {
-                LocalDateTime todayStart = today.atStartOfDay();
-                LocalDateTime todayEnd = today.plusDays(1).atStartOfDay();
-                yield topicRepository.findTopicsWithEntriesInDateRange(todayStart, todayEnd, pageable)
-                        .map(topic -> toResponseWithDateCounts(topic, todayStart, todayEnd));
+                LocalDateTime todayStart = TimeUtils.startOfDay(today);
+                LocalDateTime todayEnd = TimeUtils.startOfDay(today.plusDays(1));
+                yield withPeriodCounts(topicRepository.findTopicsWithEntriesInDateRange(todayStart, todayEnd, pageable),
+                        today, today.plusDays(1));
             }
             case "yesterday" -> {
-                LocalDateTime yesterdayStart = today.minusDays(1).atStartOfDay();
-                LocalDateTime yesterdayEnd = today.atStartOfDay();
-                yield topicRepository.findTopicsWithEntriesInDateRange(yesterdayStart, yesterdayEnd, pageable)
-                        .map(topic -> toResponseWithDateCounts(topic, yesterdayStart, yesterdayEnd));
+                LocalDateTime yesterdayStart = TimeUtils.startOfDay(today.minusDays(1));
+                LocalDateTime yesterdayEnd = TimeUtils.startOfDay(today);
+                yield withPeriodCounts(
+                        topicRepository.findTopicsWithEntriesInDateRange(yesterdayStart, yesterdayEnd, pageable),
+                        today.minusDays(1), today);
             }
             case "older" -> {
-                LocalDateTime yesterdayStart = today.minusDays(1).atStartOfDay();
-                yield topicRepository.findTopicsWithEntriesBefore(yesterdayStart, pageable)
-                        .map(topic -> toResponseWithOlderCounts(topic, yesterdayStart));
+                LocalDateTime yesterdayStart = TimeUtils.startOfDay(today.minusDays(1));
+                yield withOlderCounts(topicRepository.findTopicsWithEntriesBefore(yesterdayStart, pageable),
+                        today.minusDays(1));
             }
-            default -> topicRepository.findByIsActiveTrueOrderByCreatedAtDesc(pageable).map(this::toResponse);
+            default -> topicRepository.findByIsActiveTrueOrderByCreatedAtDesc(pageable);
         };
     }
 
     public Page<TopicResponse> searchTopics(String keyword, Pageable pageable) {
-        return topicRepository.searchByTitle(keyword, pageable).map(this::toResponse);
+        return topicRepository.searchByTitle(keyword, pageable);
     }
 
     public TopicResponse getTopicById(UUID id) {
-        Topic topic = topicRepository.findById(id)
+        // Inactive (deleted) topics are filtered out by the query
+        TopicResponse topic = topicRepository.findActiveResponseById(id)
                 .orElseThrow(() -> new BusinessException("Başlık bulunamadı", HttpStatus.NOT_FOUND));
 
-        // Check if topic is active (not deleted)
-        if (!topic.isActive()) {
-            throw new BusinessException("Başlık bulunamadı", HttpStatus.NOT_FOUND);
-        }
-
-        return toResponseWithAllDateCounts(topic);
+        topic.setViewCount(topic.getViewCount() + viewCountBuffer.getPending(id));
+        return withAllDateCounts(topic);
     }
 
     @Transactional
@@ -117,13 +117,12 @@ public class TopicService {
         Topic topic = Topic.builder().title(request.getTitle()).author(author).build();
 
         Topic saved = topicRepository.save(topic);
-        statsService.evictStatsCache();
         return toResponse(saved);
     }
 
-    @Transactional
+    // Sayaç bellekte toplanır, TopicViewCountBuffer periyodik olarak yazar
     public void incrementViewCount(UUID topicId) {
-        topicRepository.incrementViewCount(topicId);
+        viewCountBuffer.increment(topicId);
     }
 
     @Transactional
@@ -143,7 +142,10 @@ public class TopicService {
         topic.setActive(false);
         topic.setDeleteReason(reason);
         topicRepository.save(topic);
-        statsService.evictStatsCache();
+        sidebarRankingService.removeTopic(topicId);
+        trendingTopicService.removeTopic(topicId);
+        popularTopicService.removeTopic(topicId);
+        cacheInvalidationService.invalidateTopic(topicId);
     }
 
     private TopicResponse toResponse(Topic topic) {
@@ -155,47 +157,42 @@ public class TopicService {
                 .updatedAt(topic.getUpdatedAt()).lastActivityAt(topic.getUpdatedAt()).build();
     }
 
-    private TopicResponse toResponseWithDateCounts(Topic topic, LocalDateTime periodStart, LocalDateTime periodEnd) {
-        Integer periodCount = entryRepository.countByTopicIdAndDateRange(topic.getId(), periodStart, periodEnd);
-
-        return TopicResponse.builder().id(topic.getId()).title(topic.getTitle()).authorId(topic.getAuthor().getId())
-                .authorUsername(topic.getAuthor().getUsername()).entryCount(topic.getEntryCount())
-                .todayEntryCount(periodCount) // For sidebar, we show the period count in todayEntryCount
-                .viewCount(topic.getViewCount()).isLocked(topic.isLocked()).isPinned(topic.isPinned())
-
-                .kunyeImageUrl(topic.getKunyeImageUrl()).kunyeData(topic.getKunyeData()).createdAt(topic.getCreatedAt())
-                .updatedAt(topic.getUpdatedAt()).lastActivityAt(topic.getUpdatedAt()).build();
+    // Sidebar shows the period count in todayEntryCount - read from the daily
+    // buckets with one grouped query per page
+    private Page<TopicResponse> withPeriodCounts(Page<TopicResponse> page, LocalDate startDay, LocalDate endDay) {
+        if (!page.isEmpty()) {
+            Map<UUID, Integer> counts = toCountMap(
+                    dailyCountRepository.sumByTopicIdsAndDateRange(topicIds(page), startDay, endDay));
+            page.forEach(topic -> topic.setTodayEntryCount(counts.getOrDefault(topic.getId(), 0)));
+        }
+        return page;
     }
 
-    private TopicResponse toResponseWithOlderCounts(Topic topic, LocalDateTime before) {
-        Integer olderCount = entryRepository.countByTopicIdBefore(topic.getId(), before);
-
-        return TopicResponse.builder().id(topic.getId()).title(topic.getTitle()).authorId(topic.getAuthor().getId())
-                .authorUsername(topic.getAuthor().getUsername()).entryCount(topic.getEntryCount())
-                .olderEntryCount(olderCount).viewCount(topic.getViewCount()).isLocked(topic.isLocked())
-                .isPinned(topic.isPinned())
-
-                .kunyeImageUrl(topic.getKunyeImageUrl()).kunyeData(topic.getKunyeData()).createdAt(topic.getCreatedAt())
-                .updatedAt(topic.getUpdatedAt()).lastActivityAt(topic.getUpdatedAt()).build();
+    private Page<TopicResponse> withOlderCounts(Page<TopicResponse> page, LocalDate beforeDay) {
+        if (!page.isEmpty()) {
+            Map<UUID, Integer> counts = toCountMap(dailyCountRepository.sumByTopicIdsBefore(topicIds(page), beforeDay));
+            page.forEach(topic -> topic.setOlderEntryCount(counts.getOrDefault(topic.getId(), 0)));
+        }
+        return page;
     }
 
-    private TopicResponse toResponseWithAllDateCounts(Topic topic) {
-        LocalDate today = LocalDate.now();
-        LocalDateTime todayStart = today.atStartOfDay();
-        LocalDateTime todayEnd = today.plusDays(1).atStartOfDay();
-        LocalDateTime yesterdayStart = today.minusDays(1).atStartOfDay();
+    private TopicResponse withAllDateCounts(TopicResponse topic) {
+        LocalDate today = TimeUtils.today();
+        Object[] counts = dailyCountRepository.sumDateCountsByTopicId(topic.getId(), today, today.minusDays(1))
+                .get(0);
 
-        Integer todayCount = entryRepository.countByTopicIdAndDateRange(topic.getId(), todayStart, todayEnd);
-        Integer yesterdayCount = entryRepository.countByTopicIdAndDateRange(topic.getId(), yesterdayStart, todayStart);
-        Integer olderCount = entryRepository.countByTopicIdBefore(topic.getId(), yesterdayStart);
+        topic.setTodayEntryCount(((Number) counts[0]).intValue());
+        topic.setYesterdayEntryCount(((Number) counts[1]).intValue());
+        topic.setOlderEntryCount(((Number) counts[2]).intValue());
+        return topic;
+    }
 
-        return TopicResponse.builder().id(topic.getId()).title(topic.getTitle()).authorId(topic.getAuthor().getId())
-                .authorUsername(topic.getAuthor().getUsername()).entryCount(topic.getEntryCount())
-                .todayEntryCount(todayCount).yesterdayEntryCount(yesterdayCount).olderEntryCount(olderCount)
-                .viewCount(topic.getViewCount()).isLocked(topic.isLocked()).isPinned(topic.isPinned())
+    private static List<UUID> topicIds(Page<TopicResponse> page) {
+        return page.stream().map(TopicResponse::getId).collect(Collectors.toList());
+    }
 
-                .kunyeImageUrl(topic.getKunyeImageUrl()).kunyeData(topic.getKunyeData()).createdAt(topic.getCreatedAt())
-                .updatedAt(topic.getUpdatedAt()).lastActivityAt(topic.getUpdatedAt()).build();
+    private static Map<UUID, Integer> toCountMap(List<Object[]> rows) {
+        return rows.stream().collect(Collectors.toMap(row -> (UUID) row[0], row -> ((Number) row[1]).intValue()));
     }
 
     /**
@@ -224,10 +221,13 @@ public class TopicService {
 
         // Entry'leri taşı
         int movedEntries = entryRepository.moveEntriesToTopic(sourceId, targetId);
+        dailyCountService.recordTopicsMerged(sourceId, targetId);
+        sidebarRankingService.mergeTopics(sourceId, targetId);
+        trendingTopicService.mergeTopics(sourceId, targetId);
+        popularTopicService.mergeTopics(sourceId, targetId);
 
         // Hedef başlığın entry sayısını güncelle
-        targetTopic.setEntryCount(targetTopic.getEntryCount() + movedEntries);
-        topicRepository.save(targetTopic);
+        topicRepository.addToEntryCount(targetId, movedEntries);
 
         // Kaynak başlığı soft delete
         sourceTopic.setActive(false);
@@ -235,17 +235,10 @@ public class TopicService {
         topicRepository.save(sourceTopic);
 
         // Cache'leri temizle
-        evictTopicCaches();
-        statsService.evictStatsCache();
+        cacheInvalidationService.invalidateTopics(sourceId, targetId);
 
         // WebSocket ile sidebar güncellemesi
         webSocketService.broadcastSidebarUpdate();
     }
 
-    @Caching(evict = {@CacheEvict(value = "trendingTopics_v2", allEntries = true),
-            @CacheEvict(value = "popularTopics_v2", allEntries = true)})
-    public void evictTopicCaches() {
-        // Evict topic list caches
-    }
-
 }
@@ -0,0 +1,114 @@
+package net.fenerbahcesozluk.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Başlık görüntülenme sayaçlarını bellekte toplar ve periyodik olarak tek bir
+ * batch UPDATE ile veritabanına yazar. Böylece okuma istekleri popüler başlığın
+ * satır kilidini beklemez.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TopicViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE topics SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Bu kadar flush boyunca görüntülenme almayan başlığın sayacı bırakılır
+    private static final int IDLE_FLUSHES = 12;
+
+    // Başlık başına LongAdder: sıcak başlıkta artışlar tek bir map bin'ini
+    // kilitlemez. Sayaç boşaltılırken map'te kalır; yalnızca boşta kalınca çıkarılır
+    private final Map<UUID, ViewCounter> pending = new ConcurrentHashMap<>();
+
+    public void increment(UUID topicId) {
+        ViewCounter counter = pending.get(topicId);
+        if (counter == null) {
+            counter = pending.computeIfAbsent(topicId, id -> new ViewCounter());
+        }
+        counter.views.increment();
+        if (counter.retired) {
+            // Flush sayacı bu arada çıkardı; artışı canlı sayaca taşı
+            long views = counter.views.sumThenReset();
+            if (views > 0) {
+                pending.computeIfAbsent(topicId, id -> new ViewCounter()).views.add(views);
+            }
+        }
+    }
+
+    /**
+     * Henüz veritabanına yazılmamış görüntülenme sayısı.
+     */
+    public long getPending(UUID topicId) {
+        ViewCounter counter = pending.get(topicId);
+        return counter != null ? counter.views.sum() : 0L;
+    }
+
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        // Sabit sıralama - eşzamanlı UPDATE'lerle deadlock olmasın
+        pending.keySet().stream().sorted().forEach(topicId -> {
+            ViewCounter counter = pending.get(topicId);
+            if (counter == null) {
+                return;
+            }
+            long delta = counter.views.sumThenReset();
+            if (delta > 0) {
+                counter.idleFlushes = 0;
+            } else if (++counter.idleFlushes >= IDLE_FLUSHES && pending.remove(topicId, counter)) {
+                // Önce çıkar, sonra işaretle ve son kez boşalt: araya giren artış ya
+                // burada ya da increment'in kendisinde sayılır
+                counter.retired = true;
+                delta = counter.views.sumThenReset();
+            }
+            if (delta > 0) {
+                batch.add(new Object[]{delta, topicId});
+            }
+        });
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (RuntimeException e) {
+            // Yazılamayan sayıları bir sonraki flush'a geri koy
+            batch.forEach(row -> pending.computeIfAbsent((UUID) row[1], id -> new ViewCounter()).views
+                    .add((Long) row[0]));
+            log.warn("View count flush failed for {} topics, will retry: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static final class ViewCounter {
+
+        private final LongAdder views = new LongAdder();
+        private volatile boolean retired;
+        // Yalnızca flush (synchronized) okur ve yazar
+        private int idleFlushes;
+    }
+}
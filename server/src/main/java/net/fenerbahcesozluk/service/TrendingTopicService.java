@@ -0,0 +1,242 @@
+package net.fenerbahcesozluk.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.fenerbahcesozluk.cache.RedisCircuitBreaker;
+import net.fenerbahcesozluk.dto.RestPage;
+import net.fenerbahcesozluk.dto.TopicResponse;
+import net.fenerbahcesozluk.repository.EntryRepository;
+import net.fenerbahcesozluk.repository.TopicRepository;
+import net.fenerbahcesozluk.util.TimeUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Gündem (trend) sıralaması. Her saat için başlık başına entry sayısı ayrı bir
+ * Redis sorted set'te tutulur; pencere içindeki saatler periyodik olarak
+ * ZUNIONSTORE ile tek bir skor kümesinde birleştirilir. İsteğe bağlı olarak eski
+ * saatlerin ağırlığı yarılanma süresine göre azaltılır.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingTopicService {
+
+    private static final String HOUR_KEY = "trending:hour:";
+    private static final String SCORE_KEY = "trending:score";
+    private static final String READY_KEY = "trending:ready";
+    private static final Duration READY_TTL = Duration.ofDays(2);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisTopicRanking ranking;
+    private final EntryRepository entryRepository;
+    private final TopicRepository topicRepository;
+    private final RedisCircuitBreaker breaker;
+
+    @Value("${app.trending.window-days:30}")
+    private int windowDays;
+
+    // 0 ise tüm saatler eşit ağırlıklı sayılır
+    @Value("${app.trending.decay-half-life-hours:0}")
+    private double decayHalfLifeHours;
+
+    private volatile boolean ready;
+
+    /**
+     * Ranked trending page. Empty when the buckets have not been built yet or Redis
+     * is unavailable, in which case the caller falls back to the database query.
+     */
+    public Optional<Page<TopicResponse>> getPage(Pageable pageable) {
+        return ready ? ranking.page(SCORE_KEY, pageable) : Optional.empty();
+    }
+
+    /**
+     * Fallback page from the 30-day GROUP BY query. Cached, and only one caller per
+     * page runs the query when the cache is cold.
+     */
+    @Cacheable(value = "trendingTopics_v2", key = "#pageNumber + '_' + #pageSize", sync = true)
+    public Page<TopicResponse> getPageFromDatabase(int pageNumber, int pageSize) {
+        LocalDateTime since = TimeUtils.startOfDay(TimeUtils.today().minusDays(windowDays));
+        Page<TopicResponse> page = topicRepository.findTrends(since, PageRequest.of(pageNumber, pageSize));
+        return new RestPage<>(new ArrayList<>(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    // Commit sonrası uygulanır; Redis erişilemezken kaçan artışlar 04:45'teki
+    // reconcile ile düzelir
+    public void recordEntry(UUID topicId, LocalDateTime createdAt, int delta) {
+        ranking.afterCommit(() -> applyEntry(topicId, createdAt, delta));
+    }
+
+    public void removeTopic(UUID topicId) {
+        ranking.afterCommit(() -> ranking.remove(allKeys(), topicId));
+    }
+
+    public void mergeTopics(UUID sourceTopicId, UUID targetTopicId) {
+        ranking.afterCommit(() -> ranking.move(allKeys(), sourceTopicId, targetTopicId));
+    }
+
+    private void applyEntry(UUID topicId, LocalDateTime createdAt, int delta) {
+        long current = currentHour();
+        long hour = epochHour(createdAt);
+        long age = current - hour;
+        if (age >= windowHours()) {
+            return;
+        }
+        // Refresh'in kaçırdığı saatlerde oluşan anahtar da TTL'siz kalmasın
+        if (ranking.increment(hourKey(hour), topicId, delta, hourTtl(Math.max(age, 0)))) {
+            ranking.increment(SCORE_KEY, topicId, delta * weight(Math.max(age, 0)));
+        }
+    }
+
+    /**
+     * Pencere içindeki saatlik kümeleri skor kümesinde birleştirir. Pencereden
+     * çıkan saatler böylece kendiliğinden düşer.
+     */
+    @Scheduled(fixedDelayString = "${app.trending.refresh-interval-ms:60000}")
+    public void refresh() {
+        // null: Redis erişilemiyor, durum değişmez; okumalar zaten veritabanına düşer
+        Boolean refreshed = breaker.call(this::unionHours, null);
+        if (refreshed != null) {
+            ready = refreshed;
+        }
+    }
+
+    private boolean unionHours() {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) {
+            return false;
+        }
+
+        long current = currentHour();
+        List<String> keys = hourKeys(current);
+        double[] weights = new double[keys.size()];
+        for (int age = 0; age < weights.length; age++) {
+            weights[age] = weight(age);
+        }
+
+        redisTemplate.expire(hourKey(current), hourTtl(0));
+        redisTemplate.opsForZSet().unionAndStore(keys.get(0), keys.subList(1, keys.size()), SCORE_KEY,
+                Aggregate.SUM, Weights.of(weights));
+        return true;
+    }
+
+    // Saatlik kümeleri veritabanından yeniden kurar, artımlı güncellemelerin
+    // sapmalarını düzeltir
+    @Scheduled(cron = "0 45 4 * * ?", zone = "Europe/Istanbul")
+    public void reconcile() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Trending reconcile failed: {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            Boolean built = breaker.call(() -> redisTemplate.hasKey(READY_KEY), null);
+            if (built == null) {
+                log.warn("Trending warm-up skipped, Redis unavailable");
+            } else if (built) {
+                refresh();
+            } else {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Trending warm-up failed: {}", e.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        if (!ranking.isAvailable()) {
+            log.warn("Trending rebuild skipped, Redis unavailable");
+            return;
+        }
+        long current = currentHour();
+        long first = current - windowHours() + 1;
+        LocalDateTime since = TimeUtils.fromInstant(Instant.ofEpochSecond(first * 3600));
+
+        Map<Long, Map<UUID, Long>> byHour = new HashMap<>();
+        for (Object[] row : entryRepository.countHourlyByTopicSince(since)) {
+            LocalDateTime hourStart = ((LocalDate) row[1]).atTime(((Number) row[2]).intValue(), 0);
+            byHour.computeIfAbsent(epochHour(hourStart), hour -> new HashMap<>()).put((UUID) row[0],
+                    ((Number) row[3]).longValue());
+        }
+
+        for (long hour = first; hour <= current; hour++) {
+            if (!ranking.replace(hourKey(hour), byHour.getOrDefault(hour, Map.of()), hourTtl(current - hour))) {
+                log.warn("Trending rebuild interrupted, Redis unavailable");
+                return;
+            }
+        }
+        if (!breaker.run(() -> redisTemplate.opsForValue().set(READY_KEY, "1", READY_TTL))) {
+            log.warn("Trending rebuild interrupted, Redis unavailable");
+            return;
+        }
+        refresh();
+        log.info("Trending buckets rebuilt: {} active hours", byHour.size());
+    }
+
+    private double weight(long ageHours) {
+        if (decayHalfLifeHours <= 0) {
+            return 1.0;
+        }
+        return Math.pow(0.5, ageHours / decayHalfLifeHours);
+    }
+
+    private int windowHours() {
+        return windowDays * 24;
+    }
+
+    // Saatlik küme pencereden çıkınca kendiliğinden silinir
+    private Duration hourTtl(long ageHours) {
+        return Duration.ofHours(windowHours() - ageHours + 1);
+    }
+
+    // En yeni saat başta
+    private List<String> hourKeys(long current) {
+        List<String> keys = new ArrayList<>(windowHours());
+        for (long hour = current; hour > current - windowHours(); hour--) {
+            keys.add(hourKey(hour));
+        }
+        return keys;
+    }
+
+    private List<String> allKeys() {
+        List<String> keys = hourKeys(currentHour());
+        keys.add(SCORE_KEY);
+        return keys;
+    }
+
+    private static String hourKey(long epochHour) {
+        return HOUR_KEY + epochHour;
+    }
+
+    private static long currentHour() {
+        return Instant.now().getEpochSecond() / 3600;
+    }
+
+    private static long epochHour(LocalDateTime time) {
+        return TimeUtils.toInstant(time).getEpochSecond() / 3600;
+    }
+}
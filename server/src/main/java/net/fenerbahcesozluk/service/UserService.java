@@ -1,6 +1,7 @@
 package net.fenerbahcesozluk.service;
 
 import lombok.RequiredArgsConstructor;
+import net.fenerbahcesozluk.cache.PrincipalCache;
 import net.fenerbahcesozluk.dto.ChangePasswordRequest;
 import net.fenerbahcesozluk.entity.User;
 import net.fenerbahcesozluk.enums.Role;
@@ -25,6 +26,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     public User getUserByUsername(String username) {
         return userRepository.findByUsername(username)
@@ -79,6 +81,7 @@ public class UserService {
         // Update password
         currentUser.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(currentUser);
+        principalCache.invalidate(currentUser);
     }
 
     @Transactional
@@ -96,6 +99,7 @@ public class UserService {
         // Soft delete - deactivate account
         currentUser.setActive(false);
         userRepository.save(currentUser);
+        principalCache.invalidate(currentUser);
     }
 
     @Transactional
@@ -121,6 +125,7 @@ public class UserService {
         // Soft delete - set inactive
         userToSuspend.setActive(false);
         userRepository.save(userToSuspend);
+        principalCache.invalidate(userToSuspend);
     }
 
     @Transactional
@@ -146,6 +151,7 @@ public class UserService {
         userToBan.setBannedUntil(java.time.LocalDateTime.now().plusSeconds(durationSeconds));
         userToBan.setBanReason(reason);
         userRepository.save(userToBan);
+        principalCache.invalidate(userToBan);
     }
 
     @Transactional
@@ -166,6 +172,7 @@ public class UserService {
         userToUnban.setBannedUntil(null);
         userToUnban.setBanReason(null);
         userRepository.save(userToUnban);
+        principalCache.invalidate(userToUnban);
     }
 
     @Transactional
@@ -195,6 +202,7 @@ public class UserService {
 
         userToPromote.setRole(Role.MODERATOR);
         userRepository.save(userToPromote);
+        principalCache.invalidate(userToPromote);
     }
 
     @Transactional
@@ -224,5 +232,6 @@ public class UserService {
 
         userToDemote.setRole(Role.USER);
         userRepository.save(userToDemote);
+        principalCache.invalidate(userToDemote);
     }
 }
@@ -0,0 +1,364 @@
+package net.fenerbahcesozluk.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.fenerbahcesozluk.cache.VoteStateCache;
+import net.fenerbahcesozluk.enums.VoteType;
+import net.fenerbahcesozluk.exception.BusinessException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Oyları sınırlı bir kuyrukta toplar, tek bir worker thread'i ile toplu yazar:
+ * batch başına mevcut oylar tek SELECT ile kilitlenir, değişenler tek batch
+ * upsert/delete ile yazılır. Commit sonrası entry sayaç farkları
+ * {@link EntryCounterBuffer}'a, yazılan oylar {@link VoteStateCache}'e eklenir;
+ * sayısı değişen entry'ler {@link VoteBroadcastCoalescer} ile yayınlanır.
+ *
+ * Kuyruktaki her oy mutlak hedef durumdur (oy tipi ya da oy yok). Hedef
+ * {@link VoteStateCache}'teki ortak bekleyen hedefe yazılır; toggle'ın tabanı
+ * oradan çözülür ve okumalar onu kayıtlı oyun önüne koyar, böylece ikinci
+ * tıklama ya da sonraki okuma başka bir node'a düşse de kullanıcı kendi oyunu
+ * görür ve aynı oy iki kez yazılmaz. Redis erişilemezken aynı işi node içinde
+ * {@code pending} yapar: hedef yazılana kadar, Redis'e yazılamadıysa sonrasında
+ * da kısa bir süre orada tutulur. Worker satırları kilitledikten sonra
+ * ortak hedefi yeniden okur ve komutunki yerine en yenisini yazar.
+ */
+@Slf4j
+@Service
+public class VoteBatchWriter implements DisposableBean {
+
+    private static final String UPSERT_SQL = "INSERT INTO votes (id, version, created_time, updated_time, entry_id, user_id, vote_type) "
+            + "VALUES (?, 0, ?, ?, ?, ?, ?) ON CONFLICT (entry_id, user_id) DO UPDATE SET vote_type = EXCLUDED.vote_type, "
+            + "updated_time = EXCLUDED.updated_time, version = votes.version + 1";
+    private static final String DELETE_SQL = "DELETE FROM votes WHERE entry_id = ? AND user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntryCounterBuffer counterBuffer;
+    private final VoteStateCache voteStateCache;
+    private final VoteBroadcastCoalescer broadcastCoalescer;
+    private final BlockingQueue<Command> queue;
+    private final int batchSize;
+    private final long enqueueTimeoutNanos;
+    private final long pendingGraceNanos;
+
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Thread worker;
+    private volatile boolean running = true;
+    private long lastSweep = System.nanoTime();
+
+    private final Timer latency;
+    private final DistributionSummary batchSizes;
+    private final Counter upserts;
+    private final Counter deletes;
+    private final Counter failures;
+
+    public VoteBatchWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            EntryCounterBuffer counterBuffer, VoteStateCache voteStateCache,
+            VoteBroadcastCoalescer broadcastCoalescer, MeterRegistry meterRegistry,
+            @Value("${app.votes.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.votes.batch-size:500}") int batchSize,
+            @Value("${app.votes.enqueue-timeout:100ms}") Duration enqueueTimeout,
+            @Value("${app.votes.pending-grace:10s}") Duration pendingGrace) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.counterBuffer = counterBuffer;
+        this.voteStateCache = voteStateCache;
+        this.broadcastCoalescer = broadcastCoalescer;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.enqueueTimeoutNanos = enqueueTimeout.toNanos();
+        this.pendingGraceNanos = pendingGrace.toNanos();
+
+        this.latency = Timer.builder("votes.pipeline.latency").description("Time from vote request to commit")
+                .publishPercentiles(0.5, 0.99).register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("votes.pipeline.batch.size").register(meterRegistry);
+        this.upserts = Counter.builder("votes.pipeline.rows").tag("op", "upsert").register(meterRegistry);
+        this.deletes = Counter.builder("votes.pipeline.rows").tag("op", "delete").register(meterRegistry);
+        this.failures = Counter.builder("votes.pipeline.failed").description("Votes dropped after a failed write")
+                .register(meterRegistry);
+        Gauge.builder("votes.pipeline.queue.size", queue, Collection::size).register(meterRegistry);
+
+        this.worker = new Thread(this::run, "vote-batch-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Kullanıcının oyunu değiştirir. Taban durum node'lar arası ortak bekleyen
+     * hedef, yoksa bu node'da bekleyen hedef, o da yoksa {@code stored}'dan
+     * okunan kayıtlı oydur; yeni hedef kuyruğa yazılır ve hemen döner. Kuyruk
+     * dolu kalırsa istek reddedilir.
+     */
+    public VoteType submit(UUID entryId, UUID userId, UnaryOperator<VoteType> change, Supplier<VoteType> stored) {
+        Key key = new Key(entryId, userId);
+        Pending existing = pending.get(key);
+        // null: Redis erişilemiyor, taban yalnızca bu node'dan çözülür
+        VoteStateCache.PendingVote shared = voteStateCache.swapPending(userId, entryId, change,
+                () -> existing != null ? existing.voteType() : stored.get());
+        VoteType storedVote = shared == null && existing == null ? stored.get() : null;
+
+        long seq = sequence.incrementAndGet();
+        Pending[] previous = new Pending[1];
+        Pending next = pending.compute(key, (k, current) -> {
+            previous[0] = current;
+            if (shared != null) {
+                return new Pending(shared.voteType(), seq, 0);
+            }
+            // Arada grace süresi dolup silindiyse son bilinen hedef kayıtlı oydur
+            VoteType base = current != null ? current.voteType()
+                    : existing != null ? existing.voteType() : storedVote;
+            return new Pending(change.apply(base), seq, 0);
+        });
+
+        Command command = new Command(key, next.voteType(), seq, System.nanoTime());
+        boolean queued;
+        try {
+            queued = queue.offer(command, enqueueTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+
+        if (!queued) {
+            pending.computeIfPresent(key, (k, current) -> current.seq() == seq ? previous[0] : current);
+            if (shared != null) {
+                // Hiç yazılmayacak hedef diğer node'lara taban olmasın
+                voteStateCache.clearPending(userId, entryId, shared.voteType());
+            }
+            throw new BusinessException("Oylar şu anda işlenemiyor. Lütfen biraz sonra tekrar deneyin.",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return next.voteType();
+    }
+
+    /**
+     * Henüz yazılmamış (ya da yeni yazılmış) bir oy varsa onu, yoksa kayıtlı oyu
+     * döner.
+     */
+    public VoteType overlay(UUID entryId, UUID userId, VoteType stored) {
+        if (pending.isEmpty()) {
+            return stored;
+        }
+        Pending p = pending.get(new Key(entryId, userId));
+        return p != null ? p.voteType() : stored;
+    }
+
+    private void run() {
+        List<Command> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Command first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    apply(batch);
+                    batch.clear();
+                }
+                sweepCommitted();
+            } catch (InterruptedException e) {
+                // destroy() sırasında; kalan oylar döngüde yazılır
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("Vote batch writer failed", e);
+                batch.clear();
+            }
+        }
+    }
+
+    private void apply(List<Command> batch) {
+        batchSizes.record(batch.size());
+
+        // Aynı kullanıcı/entry için son hedef geçerlidir
+        Map<Key, Command> latest = new LinkedHashMap<>();
+        batch.forEach(command -> latest.put(command.key(), command));
+
+        // Commit edilene kadar diğer node'lar bu kullanıcıların oy hash'ine güvenmez
+        Map<UUID, Map<UUID, VoteType>> committed = new HashMap<>();
+        latest.keySet().forEach(key -> committed.computeIfAbsent(key.userId(), id -> new HashMap<>()));
+        voteStateCache.markWriting(committed.keySet());
+
+        // Commit edilen hedefler; başka node'da daha yeni hedef varsa komutunkinden farklıdır
+        Map<Key, VoteType> written = new HashMap<>();
+        try {
+            Map<Key, VoteType> targets = new HashMap<>();
+            addCounts(transactionTemplate.execute(status -> write(latest.values(), targets)));
+            written.putAll(targets);
+        } catch (RuntimeException e) {
+            // Batch'i bozan oyu (ör. bu arada silinen entry) ayıklamak için tek tek dene
+            log.warn("Vote batch of {} failed, retrying one by one: {}", latest.size(), e.getMessage());
+            for (Command command : latest.values()) {
+                Map<Key, VoteType> targets = new HashMap<>();
+                try {
+                    addCounts(transactionTemplate.execute(status -> write(List.of(command), targets)));
+                    written.putAll(targets);
+                } catch (RuntimeException single) {
+                    log.warn("Dropping vote on entry {}: {}", command.key().entryId(), single.getMessage());
+                }
+            }
+        }
+
+        // Oyu yazılamayan kullanıcılar da boş map ile gider; işaretleri kaldırılır
+        written.forEach((key, voteType) -> committed.get(key.userId()).put(key.entryId(), voteType));
+        // Redis'e yazıldıysa okumalar ortak hash'ten doğru oyu görür; yerel hedef artık
+        // diğer node'lardan gelen daha yeni bir oyu gölgelemesin diye hemen bırakılır
+        boolean shared = voteStateCache.putAll(committed);
+
+        long now = System.nanoTime();
+        int dropped = 0;
+        for (Command command : latest.values()) {
+            // Redis'e yazılamadıysa kaydedilen hedef grace süresince kalır; yazılamayanın
+            // yerine kayıtlı durum görünür
+            boolean saved = written.containsKey(command.key());
+            VoteType voteType = written.get(command.key());
+            pending.computeIfPresent(command.key(), (k, current) -> current.seq() != command.seq() ? current
+                    : saved && !shared ? new Pending(voteType, current.seq(), now) : null);
+            if (!saved) {
+                dropped++;
+                voteStateCache.clearPending(command.key().userId(), command.key().entryId(), command.voteType());
+            }
+        }
+        failures.increment(dropped);
+        batch.forEach(command -> latency.record(now - command.enqueuedAt(), TimeUnit.NANOSECONDS));
+    }
+
+    // Entry başına sayaç farklarını döner; sayaçlar commit sonrası tampona eklenir.
+    // Yazılan hedefler targets'a eklenir
+    private Map<UUID, int[]> write(Collection<Command> commands, Map<Key, VoteType> targets) {
+        Map<Key, VoteType> current = lockCurrent(commands);
+        // Kilitlerden sonra okunur: aynı satırı yazan diğer node'un hedefi artık görünür
+        Map<Key, VoteType> shared = sharedTargets(commands);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> upsertRows = new ArrayList<>();
+        List<Object[]> deleteRows = new ArrayList<>();
+        Map<UUID, int[]> deltas = new HashMap<>();
+        for (Command command : commands) {
+            VoteType before = current.get(command.key());
+            VoteType after = shared.containsKey(command.key()) ? shared.get(command.key()) : command.voteType();
+            targets.put(command.key(), after);
+            if (before == after) {
+                continue;
+            }
+
+            UUID entryId = command.key().entryId();
+            if (after == null) {
+                deleteRows.add(new Object[]{entryId, command.key().userId()});
+            } else {
+                upsertRows.add(new Object[]{UUID.randomUUID(), now, now, entryId, command.key().userId(),
+                        after.name()});
+            }
+            int[] delta = deltas.computeIfAbsent(entryId, id -> new int[VoteType.values().length]);
+            if (before != null) {
+                delta[before.ordinal()]--;
+            }
+            if (after != null) {
+                delta[after.ordinal()]++;
+            }
+        }
+
+        if (!upsertRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, upsertRows);
+        }
+        if (!deleteRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, deleteRows);
+        }
+
+        upserts.increment(upsertRows.size());
+        deletes.increment(deleteRows.size());
+        return deltas;
+    }
+
+    private void addCounts(Map<UUID, int[]> deltas) {
+        deltas.forEach((entryId, delta) -> {
+            counterBuffer.add(entryId, delta[VoteType.LIKE.ordinal()], delta[VoteType.DISLIKE.ordinal()],
+                    delta[VoteType.FAVORITE.ordinal()]);
+            broadcastCoalescer.recordChange(entryId);
+        });
+    }
+
+    // Batch'teki kullanıcı/entry çiftlerinin kayıtlı oylarını kilitleyerek okur
+    private Map<Key, VoteType> lockCurrent(Collection<Command> commands) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT entry_id, user_id, vote_type FROM votes WHERE (entry_id, user_id) IN (");
+        List<Object> args = new ArrayList<>(commands.size() * 2);
+        for (Command command : commands) {
+            sql.append(args.isEmpty() ? "(?, ?)" : ", (?, ?)");
+            args.add(command.key().entryId());
+            args.add(command.key().userId());
+        }
+        sql.append(") FOR UPDATE");
+
+        Map<Key, VoteType> current = new HashMap<>();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            current.put(new Key(rs.getObject("entry_id", UUID.class), rs.getObject("user_id", UUID.class)),
+                    VoteType.valueOf(rs.getString("vote_type")));
+        }, args.toArray());
+        return current;
+    }
+
+    private Map<Key, VoteType> sharedTargets(Collection<Command> commands) {
+        Map<UUID, List<UUID>> entriesByUser = new HashMap<>();
+        commands.forEach(command -> entriesByUser.computeIfAbsent(command.key().userId(), id -> new ArrayList<>())
+                .add(command.key().entryId()));
+
+        Map<Key, VoteType> shared = new HashMap<>();
+        voteStateCache.pendingVotes(entriesByUser).forEach((userId, votes) -> votes.forEach(
+                (entryId, vote) -> shared.put(new Key(entryId, userId), vote.voteType())));
+        return shared;
+    }
+
+    private void sweepCommitted() {
+        long now = System.nanoTime();
+        if (now - lastSweep < TimeUnit.SECONDS.toNanos(1)) {
+            return;
+        }
+        lastSweep = now;
+        pending.values().removeIf(p -> p.committedAt() != 0 && now - p.committedAt() > pendingGraceNanos);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private record Key(UUID entryId, UUID userId) {
+    }
+
+    // committedAt: yazıldığı an (nanoTime), henüz yazılmadıysa 0
+    private record Pending(VoteType voteType, long seq, long committedAt) {
+    }
+
+    private record Command(Key key, VoteType voteType, long seq, long enqueuedAt) {
+    }
+}
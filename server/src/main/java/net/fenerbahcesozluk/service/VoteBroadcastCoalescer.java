@@ -0,0 +1,101 @@
+package net.fenerbahcesozluk.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.fenerbahcesozluk.dto.EntryResponse;
+import net.fenerbahcesozluk.dto.VoteCountsMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Oyu değişen entry'leri kısa bir pencere boyunca toplar; pencere sonunda
+ * başlık başına tek bir {@link VoteCountsMessage} yayınlar. Çok oy alan bir
+ * entry oy başına değil, pencere başına bir kez yayınlanır. Mesajlar fark
+ * değil güncel sayıları taşır; istemcinin kendi oyunu yerelde saymış olması
+ * sonucu bozmaz.
+ */
+@Slf4j
+@Service
+public class VoteBroadcastCoalescer {
+
+    private static final String COUNTS_SQL = "SELECT id, topic_id, like_count, dislike_count, favorite_count "
+            + "FROM entries WHERE is_active = true AND id IN (%s)";
+    private static final int MAX_IDS_PER_QUERY = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntryCounterBuffer entryCounterBuffer;
+    private final WebSocketService webSocketService;
+    private final Counter messages;
+
+    private final Set<UUID> changed = ConcurrentHashMap.newKeySet();
+
+    public VoteBroadcastCoalescer(JdbcTemplate jdbcTemplate, EntryCounterBuffer entryCounterBuffer,
+            WebSocketService webSocketService, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entryCounterBuffer = entryCounterBuffer;
+        this.webSocketService = webSocketService;
+        this.messages = Counter.builder("votes.broadcast.messages").description("Vote count messages sent")
+                .register(meterRegistry);
+    }
+
+    public void recordChange(UUID entryId) {
+        changed.add(entryId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.votes.broadcast-interval-ms:250}")
+    public void flush() {
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        List<UUID> entryIds = new ArrayList<>();
+        for (Iterator<UUID> it = changed.iterator(); it.hasNext(); ) {
+            entryIds.add(it.next());
+            it.remove();
+        }
+
+        List<EntryResponse> entries = new ArrayList<>();
+        try {
+            for (int i = 0; i < entryIds.size(); i += MAX_IDS_PER_QUERY) {
+                entries.addAll(load(entryIds.subList(i, Math.min(i + MAX_IDS_PER_QUERY, entryIds.size()))));
+            }
+        } catch (RuntimeException e) {
+            // Bir sonraki pencerede tekrar denenir
+            changed.addAll(entryIds);
+            log.warn("Vote count broadcast failed for {} entries, will retry: {}", entryIds.size(), e.getMessage());
+            return;
+        }
+
+        // Henüz yazılmamış sayaç farkları da dahil
+        entryCounterBuffer.applyPending(entries);
+        Map<UUID, List<VoteCountsMessage.Counts>> byTopic = entries.stream()
+                .collect(Collectors.groupingBy(EntryResponse::getTopicId, Collectors.mapping(
+                        entry -> new VoteCountsMessage.Counts(entry.getId(), entry.getLikeCount(),
+                                entry.getDislikeCount(), entry.getFavoriteCount()),
+                        Collectors.toList())));
+        byTopic.forEach((topicId, counts) -> {
+            webSocketService.broadcastVoteCounts(topicId, new VoteCountsMessage(counts));
+            messages.increment();
+        });
+    }
+
+    private List<EntryResponse> load(List<UUID> entryIds) {
+        String placeholders = entryIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+        return jdbcTemplate.query(String.format(COUNTS_SQL, placeholders),
+                (rs, rowNum) -> EntryResponse.builder().id(rs.getObject("id", UUID.class))
+                        .topicId(rs.getObject("topic_id", UUID.class)).likeCount(rs.getInt("like_count"))
+                        .dislikeCount(rs.getInt("dislike_count")).favoriteCount(rs.getInt("favorite_count")).build(),
+                entryIds.toArray());
+    }
+}
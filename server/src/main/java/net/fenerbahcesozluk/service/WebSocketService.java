@@ -2,6 +2,7 @@ package net.fenerbahcesozluk.service;
 
 import lombok.RequiredArgsConstructor;
 import net.fenerbahcesozluk.dto.EntryResponse;
+import net.fenerbahcesozluk.dto.VoteCountsMessage;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
@@ -20,6 +21,13 @@ public class WebSocketService {
         messagingTemplate.convertAndSend("/topic/entries/" + topicId, entry);
     }
 
+    /**
+     * Broadcast changed vote counts to all users viewing the topic
+     */
+    public void broadcastVoteCounts(UUID topicId, VoteCountsMessage message) {
+        messagingTemplate.convertAndSend("/topic/entries/" + topicId, message);
+    }
+
     /**
      * Broadcast sidebar update to all connected users
      */
@@ -0,0 +1,76 @@
+package net.fenerbahcesozluk.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Utility class for encoding and decoding opaque keyset pagination cursors.
+ * A cursor points at a (created_time, id) position and carries the scroll
+ * direction, so clients only need to send the cursor back.
+ */
+public final class CursorUtils {
+
+    private static final char AFTER = 'a';
+    private static final char BEFORE = 'b';
+
+    private CursorUtils() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Decoded cursor position.
+     *
+     * @param forward
+     *            true for rows after the position, false for rows before it
+     * @param createdAt
+     *            created_time of the boundary row
+     * @param id
+     *            id of the boundary row (tie breaker)
+     */
+    public record Position(boolean forward, LocalDateTime createdAt, UUID id) {
+    }
+
+    public static String after(LocalDateTime createdAt, UUID id) {
+        return encode(AFTER, createdAt, id);
+    }
+
+    public static String before(LocalDateTime createdAt, UUID id) {
+        return encode(BEFORE, createdAt, id);
+    }
+
+    /**
+     * Decode a cursor produced by {@link #after} or {@link #before}.
+     *
+     * @param cursor
+     *            The opaque cursor string
+     * @return The decoded position
+     * @throws IllegalArgumentException
+     *             if the cursor is malformed
+     */
+    public static Position decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = raw.split("\\|");
+        if (parts.length != 3 || parts[0].length() != 1) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+
+        char direction = parts[0].charAt(0);
+        if (direction != AFTER && direction != BEFORE) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+
+        try {
+            return new Position(direction == AFTER, LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+
+    private static String encode(char direction, LocalDateTime createdAt, UUID id) {
+        String raw = direction + "|" + createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
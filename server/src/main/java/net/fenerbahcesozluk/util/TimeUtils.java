@@ -0,0 +1,50 @@
+package net.fenerbahcesozluk.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Gün sınırları (bugün / dün / önceki) tek bir saat diliminde, Europe/Istanbul
+ * üzerinden hesaplanır. Entity zaman damgaları JVM saat diliminde tutulduğu için
+ * dönüşümler buradan yapılır; sunucunun saat dilimi ne olursa olsun sayaçlar,
+ * sıralamalar ve tarih filtreleri aynı günü görür.
+ */
+public final class TimeUtils {
+
+    public static final ZoneId APP_ZONE = ZoneId.of("Europe/Istanbul");
+
+    private TimeUtils() {
+        // Utility class - prevent instantiation
+    }
+
+    public static LocalDate today() {
+        return LocalDate.now(APP_ZONE);
+    }
+
+    // Entity zamanının (JVM saat dilimi) uygulama saat dilimindeki günü
+    public static LocalDate dayOf(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).withZoneSameInstant(APP_ZONE).toLocalDate();
+    }
+
+    // Uygulama saat dilimindeki günün başlangıcı, entity zamanlarıyla karşılaştırılabilir biçimde
+    public static LocalDateTime startOfDay(LocalDate day) {
+        return day.atStartOfDay(APP_ZONE).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    // Saat anahtarları epoch saatidir; entity zamanı ile anlık zaman arasındaki
+    // dönüşümler saklama (JVM) saat dilimi üzerinden yapılır
+    public static Instant toInstant(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    public static LocalDateTime fromInstant(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    // Native sorgularda created_time değerlerini yorumlamak için JVM saat dilimi
+    public static String storageZoneId() {
+        return ZoneId.systemDefault().getId();
+    }
+}
@@ -4,6 +4,9 @@
 -- Bu script'i çalıştırmadan önce:
 -- 1. Database ve user oluşturulmuş olmalı
 -- 2. psql -U fenerbahce_user -d fenerbahcesozluk -f init.sql
+--
+-- Mevcut bir veritabanını güncellerken migrations/ altındaki script'ler
+-- sırasıyla çalıştırılmalı (init.sql yeni kurulumlar içindir).
 -- ============================================================
 
 -- UUID extension (gerekli)
@@ -100,6 +103,22 @@ CREATE TABLE IF NOT EXISTS votes (
 
 CREATE INDEX IF NOT EXISTS idx_vote_entry_user ON votes(entry_id, user_id);
 
+-- ============================================================
+-- TOPIC DAILY ENTRY COUNTS TABLE
+-- ============================================================
+CREATE TABLE IF NOT EXISTS topic_daily_entry_counts (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    version BIGINT DEFAULT 0,
+    created_time TIMESTAMP,
+    updated_time TIMESTAMP,
+    
+    topic_id UUID NOT NULL REFERENCES topics(id) ON DELETE CASCADE,
+    bucket_date DATE NOT NULL,
+    entry_count INTEGER NOT NULL DEFAULT 0,
+    
+    CONSTRAINT uk_topic_daily_topic_date UNIQUE (topic_id, bucket_date)
+);
+
 -- ============================================================
 -- MESSAGES TABLE
 -- ============================================================
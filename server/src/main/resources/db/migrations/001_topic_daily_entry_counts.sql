@@ -0,0 +1,22 @@
+-- ============================================================
+-- Migration 001 - Başlık başına günlük entry sayıları
+-- ============================================================
+-- Mevcut veritabanlarında, yeni sürüm deploy edilmeden önce çalıştırılmalı
+-- (uygulama ddl-auto: validate ile açılır, tablo yoksa başlamaz):
+--   psql -U fenerbahce_user -d fenerbahcesozluk -f 001_topic_daily_entry_counts.sql
+-- Tablo boş oluşturulur; uygulama ilk açılışta entries tablosundan doldurur.
+-- Tekrar çalıştırılması güvenlidir.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS topic_daily_entry_counts (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    version BIGINT DEFAULT 0,
+    created_time TIMESTAMP,
+    updated_time TIMESTAMP,
+    
+    topic_id UUID NOT NULL REFERENCES topics(id) ON DELETE CASCADE,
+    bucket_date DATE NOT NULL,
+    entry_count INTEGER NOT NULL DEFAULT 0,
+    
+    CONSTRAINT uk_topic_daily_topic_date UNIQUE (topic_id, bucket_date)
+);
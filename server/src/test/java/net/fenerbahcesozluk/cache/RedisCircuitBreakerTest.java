@@ -0,0 +1,66 @@
+package net.fenerbahcesozluk.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisCircuitBreakerTest {
+
+    private static final int THRESHOLD = 3;
+
+    private final RedisCircuitBreaker breaker = new RedisCircuitBreaker(THRESHOLD, Duration.ZERO,
+            new SimpleMeterRegistry());
+
+    @Test
+    void redisFailuresFallBackAndOpenTheCircuit() {
+        for (int i = 0; i < THRESHOLD; i++) {
+            assertThat(breaker.call(fail(new RedisConnectionFailureException("down")), "fallback"))
+                    .isEqualTo("fallback");
+        }
+
+        assertThat(breaker.isOpen()).isTrue();
+        // Açık süre 0: bir deneme geçer, başarılıysa devre kapanır
+        assertThat(breaker.call(() -> "redis", "fallback")).isEqualTo("redis");
+        assertThat(breaker.isOpen()).isFalse();
+    }
+
+    @Test
+    void otherExceptionsAreRethrownAndNotCounted() {
+        for (int i = 0; i < THRESHOLD * 2; i++) {
+            assertThatThrownBy(() -> breaker.call(fail(new SerializationException("bad payload")), "fallback"))
+                    .isInstanceOf(SerializationException.class);
+            assertThatThrownBy(() -> breaker.run(() -> {
+                throw new IllegalStateException("bug");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(breaker.isOpen()).isFalse();
+    }
+
+    @Test
+    void probeFailingWithOtherExceptionKeepsTheCircuitUsable() {
+        for (int i = 0; i < THRESHOLD; i++) {
+            breaker.call(fail(new QueryTimeoutException("timeout")), null);
+        }
+
+        assertThatThrownBy(() -> breaker.call(fail(new SerializationException("bad payload")), "fallback"))
+                .isInstanceOf(SerializationException.class);
+        // Deneme hakkı yanmadı: sıradaki istek yine denenir ve devreyi kapatır
+        assertThat(breaker.call(() -> "redis", "fallback")).isEqualTo("redis");
+        assertThat(breaker.isOpen()).isFalse();
+    }
+
+    private static Supplier<String> fail(RuntimeException e) {
+        return () -> {
+            throw e;
+        };
+    }
+}
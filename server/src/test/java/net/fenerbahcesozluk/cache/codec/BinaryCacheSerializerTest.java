@@ -0,0 +1,148 @@
+package net.fenerbahcesozluk.cache.codec;
+
+import net.fenerbahcesozluk.cache.CacheEnvelope;
+import net.fenerbahcesozluk.config.CacheConfig;
+import net.fenerbahcesozluk.dto.RestPage;
+import net.fenerbahcesozluk.dto.TopicResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryCacheSerializerTest {
+
+    private static final int THRESHOLD = 1024;
+
+    private final BinaryCacheSerializer serializer = CacheConfig.cacheValueSerializer(THRESHOLD);
+    private final GenericJackson2JsonRedisSerializer json = CacheConfig.jsonValueSerializer();
+
+    @Test
+    void smallTopicPageRoundTripsUncompressed() {
+        RestPage<TopicResponse> page = CacheValueFixtures.topicPage(3);
+
+        byte[] bytes = serializer.serialize(page);
+
+        assertThat(bytes.length).isLessThanOrEqualTo(THRESHOLD + 3);
+        assertBinaryHeader(bytes, false);
+        assertPageEquals(serializer.deserialize(bytes), page);
+    }
+
+    @Test
+    void largeTopicPageRoundTripsCompressed() {
+        RestPage<TopicResponse> page = CacheValueFixtures.topicPage(50);
+
+        byte[] bytes = serializer.serialize(page);
+
+        assertBinaryHeader(bytes, true);
+        assertPageEquals(serializer.deserialize(bytes), page);
+    }
+
+    @Test
+    void topicWithNullFieldsRoundTrips() {
+        TopicResponse topic = TopicResponse.builder().title("sadece başlık").build();
+
+        Object decoded = serializer.deserialize(serializer.serialize(topic));
+
+        assertThat(decoded).isEqualTo(topic);
+    }
+
+    @Test
+    void statsResponseRoundTrips() {
+        var stats = CacheValueFixtures.stats();
+
+        byte[] bytes = serializer.serialize(stats);
+
+        assertBinaryHeader(bytes, false);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(stats);
+    }
+
+    @Test
+    void newsPageRoundTrips() {
+        var page = CacheValueFixtures.newsPage(20);
+
+        Object decoded = serializer.deserialize(serializer.serialize(page));
+
+        assertThat(decoded).isInstanceOf(Page.class);
+        assertThat(new ArrayList<Object>(((Page<?>) decoded).getContent()))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(page.getContent());
+    }
+
+    @Test
+    void emptyPageRoundTrips() {
+        RestPage<TopicResponse> page = new RestPage<>(List.of(), PageRequest.of(4, 20), 80);
+
+        Page<?> decoded = (Page<?>) serializer.deserialize(serializer.serialize(page));
+
+        assertThat(decoded.getContent()).isEmpty();
+        assertThat(decoded.getNumber()).isEqualTo(4);
+        assertThat(decoded.getSize()).isEqualTo(20);
+        assertThat(decoded.getTotalElements()).isEqualTo(80);
+    }
+
+    @Test
+    void envelopeKeepsRefreshTimeAndValue() {
+        CacheEnvelope envelope = new CacheEnvelope(CacheValueFixtures.topicPage(5), 1_716_150_000_000L);
+
+        CacheEnvelope decoded = (CacheEnvelope) serializer.deserialize(serializer.serialize(envelope));
+
+        assertThat(decoded.getRefreshAt()).isEqualTo(envelope.getRefreshAt());
+        assertPageEquals(decoded.getValue(), (Page<?>) envelope.getValue());
+    }
+
+    @Test
+    void typesWithoutCodecUseJsonFallback() {
+        Map<String, Object> value = new HashMap<>(Map.of("anahtar", "değer"));
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(bytes[0]).isEqualTo((byte) '{');
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    void readsValuesWrittenByJsonSerializer() {
+        RestPage<TopicResponse> page = CacheValueFixtures.topicPage(5);
+
+        assertPageEquals(serializer.deserialize(json.serialize(page)), page);
+    }
+
+    @Test
+    void unknownVersionIsTreatedAsMiss() {
+        byte[] bytes = serializer.serialize(CacheValueFixtures.topic(1));
+        bytes[1] = 99;
+
+        assertThat(serializer.deserialize(bytes)).isNull();
+    }
+
+    @Test
+    void binaryIsSmallerThanJson() {
+        for (Object value : List.of(CacheValueFixtures.topicPage(20), CacheValueFixtures.topicPage(3),
+                CacheValueFixtures.stats(), CacheValueFixtures.newsPage(20))) {
+            assertThat(serializer.serialize(value).length).as(value.getClass().getSimpleName())
+                    .isLessThan(json.serialize(value).length / 2);
+        }
+    }
+
+    private static void assertBinaryHeader(byte[] bytes, boolean compressed) {
+        assertThat(bytes[0]).isEqualTo((byte) 0xB1);
+        assertThat(bytes[1]).isEqualTo((byte) 1);
+        assertThat(bytes[2]).isEqualTo(compressed ? (byte) 1 : (byte) 0);
+    }
+
+    private static void assertPageEquals(Object decoded, Page<?> expected) {
+        assertThat(decoded).isInstanceOf(Page.class);
+        Page<?> page = (Page<?>) decoded;
+        assertThat(new ArrayList<Object>(page.getContent())).containsExactlyElementsOf(expected.getContent());
+        assertThat(page.getNumber()).isEqualTo(expected.getNumber());
+        assertThat(page.getSize()).isEqualTo(expected.getSize());
+        assertThat(page.getTotalElements()).isEqualTo(expected.getTotalElements());
+    }
+}
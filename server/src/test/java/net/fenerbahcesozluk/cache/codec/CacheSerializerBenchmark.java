@@ -0,0 +1,70 @@
+package net.fenerbahcesozluk.cache.codec;
+
+import net.fenerbahcesozluk.config.CacheConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * İkili cache codec'i ile önceki tip bilgili Jackson serializer'ın karşılaştırması.
+ * Her değer için encode ve decode süresi ölçülür; payload boyutu kurulumda
+ * yazdırılır ("payload bytes").
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="CacheSerializerBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheSerializerBenchmark {
+
+    @Param({"binary", "json"})
+    public String serializer;
+
+    // topicPage20: sidebar sayfası (sıkıştırılır), topicPage3 ve stats: eşik altı
+    @Param({"topicPage20", "topicPage3", "stats", "newsPage20"})
+    public String value;
+
+    private RedisSerializer<Object> codec;
+    private Object input;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        codec = "binary".equals(serializer) ? CacheConfig.cacheValueSerializer(1024) : CacheConfig.jsonValueSerializer();
+        input = switch (value) {
+            case "topicPage20" -> CacheValueFixtures.topicPage(20);
+            case "topicPage3" -> CacheValueFixtures.topicPage(3);
+            case "stats" -> CacheValueFixtures.stats();
+            case "newsPage20" -> CacheValueFixtures.newsPage(20);
+            default -> throw new IllegalArgumentException(value);
+        };
+        encoded = codec.serialize(input);
+        System.out.printf("%n%s / %s payload bytes: %d%n", serializer, value, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.serialize(input);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return codec.deserialize(encoded);
+    }
+}
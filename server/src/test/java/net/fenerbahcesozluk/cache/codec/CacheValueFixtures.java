@@ -0,0 +1,70 @@
+package net.fenerbahcesozluk.cache.codec;
+
+import net.fenerbahcesozluk.dto.RestPage;
+import net.fenerbahcesozluk.dto.StatsResponse;
+import net.fenerbahcesozluk.dto.TopicResponse;
+import net.fenerbahcesozluk.entity.News;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Codec testleri ve serializer benchmark'ı için cache'lenen tipik değerler.
+ */
+final class CacheValueFixtures {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 5, 19, 21, 45, 12, 345_000_000);
+
+    private CacheValueFixtures() {
+    }
+
+    static RestPage<TopicResponse> topicPage(int size) {
+        List<TopicResponse> topics = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            topics.add(topic(i));
+        }
+        return new RestPage<>(topics, PageRequest.of(2, Math.max(size, 1)), 1_000);
+    }
+
+    static TopicResponse topic(int i) {
+        return TopicResponse.builder().id(UUID.nameUUIDFromBytes(("topic-" + i).getBytes())).title("başlık " + i)
+                .authorUsername("yazar" + (i % 7)).authorId(UUID.nameUUIDFromBytes(("author-" + i).getBytes()))
+                .entryCount(100 + i).todayEntryCount(i % 5).yesterdayEntryCount(i % 3).olderEntryCount(90 + i)
+                .viewCount(10_000L + i).isLocked(i % 11 == 0).isPinned(i == 0)
+                .kunyeImageUrl(i % 4 == 0 ? "https://cdn.example.com/kunye/" + i + ".jpg" : null)
+                .kunyeData(i % 4 == 0 ? "{\"dogum\":\"1907\",\"pozisyon\":\"forvet\"}" : null)
+                .createdAt(BASE_TIME.minusDays(i)).updatedAt(BASE_TIME.minusHours(i)).lastActivityAt(BASE_TIME)
+                .build();
+    }
+
+    static StatsResponse stats() {
+        List<StatsResponse.TopAuthor> authors = new ArrayList<>();
+        List<StatsResponse.TopTopic> topics = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            authors.add(StatsResponse.TopAuthor.builder().username("yazar" + i).entryCount(500 - i).build());
+            topics.add(StatsResponse.TopTopic.builder().id(UUID.nameUUIDFromBytes(("top-" + i).getBytes()).toString())
+                    .title("gündem " + i).entryCount(300 - i).build());
+        }
+        return StatsResponse.builder().totalEntries(123_456).totalAuthors(2_345).totalTopics(9_876).totalLikes(45_678)
+                .totalDislikes(3_210).totalFavorites(6_543).topAuthors(authors).topTopics(topics).build();
+    }
+
+    static RestPage<News> newsPage(int size) {
+        List<News> news = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            News item = News.builder().title("Fenerbahçe haberi " + i).link("https://haber.example.com/" + i)
+                    .description("Haber özeti " + i + " - maç öncesi son gelişmeler ve kadro durumu")
+                    .imageUrl(i % 2 == 0 ? "https://haber.example.com/img/" + i + ".jpg" : null).source("TRT Spor")
+                    .pubDate(BASE_TIME.minusHours(i)).guid("guid-" + i).build();
+            item.setId(UUID.nameUUIDFromBytes(("news-" + i).getBytes()));
+            item.setVersion((long) i);
+            item.setCreatedAt(BASE_TIME.minusHours(i));
+            item.setUpdatedAt(BASE_TIME.minusHours(i));
+            news.add(item);
+        }
+        return new RestPage<>(news, PageRequest.of(0, Math.max(size, 1)), size);
+    }
+}
@@ -0,0 +1,122 @@
+package net.fenerbahcesozluk.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import net.fenerbahcesozluk.cache.PrincipalCache;
+import net.fenerbahcesozluk.entity.User;
+import net.fenerbahcesozluk.repository.UserRepository;
+import net.fenerbahcesozluk.service.JwtService;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter'ın istek başına maliyeti: Authorization başlığının
+ * okunması, token doğrulama, principal cache ve SecurityContext kurulumu.
+ *
+ * <ul>
+ * <li>{@code cachedToken}: aynı token'ın tekrar gelmesi (kalıcı durum)</li>
+ * <li>{@code uncachedToken}: doğrulama cache'i kapalı, her istekte imza kontrolü</li>
+ * <li>{@code legacyParsing}: eski yol - her çağrıda anahtar ve parser yeniden
+ * kurulup token üç kez çözülüyordu (yalnızca doğrulama kısmı)</li>
+ * </ul>
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="JwtAuthenticationFilterBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String USERNAME = "benchmark";
+    private static final long EXPIRATION = TimeUnit.DAYS.toMillis(1);
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private String secret;
+    private String token;
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        secret = Base64.getEncoder().encodeToString(keyBytes);
+
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findByUsername(USERNAME))
+                .thenReturn(Optional.of(User.builder().username(USERNAME).email("benchmark@example.com")
+                        .password("x").build()));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PrincipalCache principalCache = new PrincipalCache(userRepository, null, registry, 100, Duration.ofMinutes(5));
+
+        JwtService cached = new JwtService(secret, EXPIRATION, EXPIRATION, 10_000, Duration.ofMinutes(1), registry);
+        // max-size 0: her kayıt hemen düşer, her istek imzayı yeniden doğrular
+        JwtService uncached = new JwtService(secret, EXPIRATION, EXPIRATION, 0, Duration.ofMinutes(1), registry);
+        cachedFilter = new JwtAuthenticationFilter(cached, principalCache);
+        uncachedFilter = new JwtAuthenticationFilter(uncached, principalCache);
+
+        token = cached.generateToken(principalCache.load(USERNAME));
+        request = new MockHttpServletRequest("GET", "/api/topics");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object cachedToken() throws Exception {
+        return filter(cachedFilter);
+    }
+
+    @Benchmark
+    public Object uncachedToken() throws Exception {
+        return filter(uncachedFilter);
+    }
+
+    @Benchmark
+    public Object legacyParsing() {
+        String username = legacyParse().getSubject();
+        boolean valid = username.equals(legacyParse().getSubject()) && legacyParse().getExpiration().after(new Date());
+        return valid ? username : null;
+    }
+
+    private Object filter(JwtAuthenticationFilter filter) throws Exception {
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private Claims legacyParse() {
+        return Jwts.parser().verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret))).build()
+                .parseSignedClaims(token).getPayload();
+    }
+}
@@ -0,0 +1,77 @@
+package net.fenerbahcesozluk.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.FilterChain;
+import net.fenerbahcesozluk.ratelimit.RateLimitDecision;
+import net.fenerbahcesozluk.service.RateLimitService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RateLimitFilterTest {
+
+    private static final RateLimitDecision DENIED = new RateLimitDecision(false, 5, 0, 30, 60);
+
+    private final RateLimitService rateLimitService = mock(RateLimitService.class);
+    private final FilterChain chain = mock(FilterChain.class);
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Limit login = new RateLimitProperties.Limit();
+        login.setCapacity(5);
+        login.setPeriod(Duration.ofMinutes(1));
+        login.setMethod("POST");
+        login.setPath("/api/auth/login");
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getLimits().put("login", login);
+
+        when(rateLimitService.tryAcquire(eq("login"), anyString())).thenReturn(DENIED);
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        filter = new RateLimitFilter(properties, rateLimitService, objectMapper);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/auth/login", "/api/auth/%6Cogin", "/api/auth/%6c%6F%67%69%6E",
+            "/api/auth/login;jsessionid=abc", "/api//auth/login"})
+    void limitsEncodedAndDecoratedPaths(String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+
+        verify(rateLimitService).tryAcquire(eq("login"), anyString());
+        verify(chain, never()).doFilter(request, response);
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("30");
+    }
+
+    @Test
+    void otherMethodsAndPathsPassThrough() throws Exception {
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/api/auth/%6Cogin");
+        MockHttpServletRequest other = new MockHttpServletRequest("POST", "/api/auth/logout");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(get, response, chain);
+        filter.doFilter(other, response, chain);
+
+        verifyNoInteractions(rateLimitService);
+        verify(chain).doFilter(get, response);
+        verify(chain).doFilter(other, response);
+    }
+}
@@ -0,0 +1,79 @@
+package net.fenerbahcesozluk.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheFilterTest {
+
+    private final AtomicInteger renders = new AtomicInteger();
+    private final FilterChain chain = (request, response) -> {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(("{\"render\":" + renders.incrementAndGet() + "}")
+                .getBytes(StandardCharsets.UTF_8));
+    };
+    private ResponseCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        AppCacheProperties properties = new AppCacheProperties();
+        properties.getResponses().getRoutes().put("/api/topics/popular", Duration.ofMinutes(1));
+        filter = new ResponseCacheFilter(properties, new SimpleMeterRegistry());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/topics/%70opular", "/api/topics/popular;jsessionid=abc", "/api//topics/popular"})
+    void encodedAndDecoratedPathsShareTheRouteEntry(String uri) throws Exception {
+        get("/api/topics/popular", null);
+
+        assertThat(get(uri, null)).isEqualTo("{\"render\":1}");
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    void unknownParamsDoNotCreateEntries() throws Exception {
+        get("/api/topics/popular", "page=1&size=20");
+
+        assertThat(get("/api/topics/popular", "page=1&size=20&cb=123")).isEqualTo("{\"render\":1}");
+        assertThat(get("/api/topics/popular", "cb=456&size=20&page=1")).isEqualTo("{\"render\":1}");
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    void pagingParamsAreKeyedSeparately() throws Exception {
+        get("/api/topics/popular", "page=0");
+        get("/api/topics/popular", "page=1");
+        // Değer içindeki ayraçlar ayrı parametre sayılmaz
+        get("/api/topics/popular", "sort=title&sort=createdAt");
+        get("/api/topics/popular", "sort=title%26sort%3DcreatedAt");
+
+        assertThat(renders).hasValue(4);
+    }
+
+    private String get(String uri, String query) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (query != null) {
+            request.setQueryString(query);
+            for (String pair : query.split("&")) {
+                String[] parts = pair.split("=", 2);
+                request.addParameter(parts[0], URLDecoder.decode(parts[1], StandardCharsets.UTF_8));
+            }
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response.getContentAsString();
+    }
+}
@@ -0,0 +1,99 @@
+package net.fenerbahcesozluk.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node içi rate limit store'unun çekişme altındaki maliyeti. 8 thread aynı store'a
+ * istek atar; {@code clients} küçükken aynı segmentler/anahtarlar yarışır, büyükken
+ * store kapasitesi aşılır ve eviction yolu da ölçülür. Karşılaştırma için eski
+ * yaklaşım ("endpoint:ip" string anahtarlı ConcurrentHashMap) da ölçülür.
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="BucketStoreBenchmark -prof gc"
+ * </pre>
+ *
+ * {@code -prof gc} ile gc.alloc.rate.norm değerinin {@code bucketStore} için
+ * ~0 B/op olduğu görülür.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class BucketStoreBenchmark {
+
+    private static final int LIMIT_ID = 1;
+    private static final String ENDPOINT = "auth";
+    private static final long PERIOD = TimeUnit.MINUTES.toNanos(1);
+    private static final long INTERVAL = PERIOD / 60;
+
+    @Param({"64", "10000", "200000"})
+    public int clients;
+
+    @Param({"1", "64"})
+    public int segments;
+
+    private String[] ips;
+    private BucketStore store;
+    private ConcurrentHashMap<String, long[]> baseline;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ips = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            ips[i] = "10." + ((i >>> 16) & 0xff) + "." + ((i >>> 8) & 0xff) + "." + (i & 0xff);
+        }
+        store = new BucketStore(100_000, segments, new SimpleMeterRegistry().counter("evictions"));
+        baseline = new ConcurrentHashMap<>();
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        private final SplittableRandom random = new SplittableRandom();
+
+        String next(BucketStoreBenchmark benchmark) {
+            return benchmark.ips[random.nextInt(benchmark.clients)];
+        }
+    }
+
+    @Benchmark
+    public long bucketStore(Client client) {
+        long now = System.nanoTime();
+        return store.acquire(BucketKeys.pack(LIMIT_ID, client.next(this)), now, INTERVAL, PERIOD);
+    }
+
+    // Eski RateLimitService'teki gibi: her istekte string anahtar ve compute içinde GCRA
+    @Benchmark
+    public long concurrentHashMap(Client client) {
+        long now = System.nanoTime();
+        long[] tat = baseline.compute(ENDPOINT + ":" + client.next(this), (key, state) -> {
+            long[] current = state != null ? state : new long[1];
+            long start = Math.max(current[0], now);
+            if (start + INTERVAL - now <= PERIOD) {
+                current[0] = start + INTERVAL;
+            }
+            return current;
+        });
+        return tat[0];
+    }
+}
@@ -0,0 +1,126 @@
+package net.fenerbahcesozluk.repository;
+
+import jakarta.persistence.EntityManager;
+import net.fenerbahcesozluk.dto.EntryResponse;
+import net.fenerbahcesozluk.dto.TopicResponse;
+import net.fenerbahcesozluk.entity.Entry;
+import net.fenerbahcesozluk.entity.Topic;
+import net.fenerbahcesozluk.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Listeleme sorguları DTO'ya doğrudan projeksiyon yapar: bir sayfa tek SELECT
+ * (ve sayfalıysa tek COUNT) ile gelir, satır başına ek sorgu çalışmaz.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ListingQueryStatementCountTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 3);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntryRepository entryRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Statistics statistics;
+    private User author;
+    private Topic topic;
+
+    @BeforeEach
+    void setUp() {
+        // Her entry farklı yazar ve başlıkta; lazy yükleme olsaydı satır başına sorgu görülürdü
+        for (int i = 0; i < 5; i++) {
+            author = userRepository.save(User.builder().username("yazar" + i).email("yazar" + i + "@example.com")
+                    .password("secret").build());
+            topic = topicRepository.save(Topic.builder().title("baslik " + i).author(author).entryCount(1).build());
+            entryRepository.save(Entry.builder().content("entry " + i).topic(topic).author(author).likeCount(i + 1)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void entryPagesRunOneSelectAndOneCount() {
+        assertEntryPage(() -> entryRepository.findPopularEntries(FIRST_PAGE));
+        assertEntryPage(() -> entryRepository.findLatestEntries(FIRST_PAGE));
+    }
+
+    @Test
+    void entryListsRunOneSelect() {
+        LocalDateTime start = LocalDateTime.now().minusDays(1);
+        LocalDateTime end = LocalDateTime.now().plusDays(1);
+
+        assertEntries(() -> entryRepository.findByTopicIdAndIsActiveTrueOrderByCreatedAtAsc(topic.getId(), FIRST_PAGE)
+                .getContent(), 1);
+        assertEntries(() -> entryRepository.findKeysetFirstPage(topic.getId(), start, end, FIRST_PAGE), 1);
+        assertEntries(() -> entryRepository.findTopLikedByAuthor(author.getId(), FIRST_PAGE), 1);
+        assertEntries(() -> entryRepository.findPopularEntriesFromTopTopics(FIRST_PAGE), 1);
+    }
+
+    @Test
+    void topicPagesRunOneSelectAndOneCount() {
+        assertTopicPage(() -> topicRepository.findByIsActiveTrueOrderByCreatedAtDesc(FIRST_PAGE));
+        assertTopicPage(() -> topicRepository.findPopularTopics(FIRST_PAGE));
+        assertTopicPage(() -> topicRepository.searchByTitle("baslik", FIRST_PAGE));
+        assertTopicPage(() -> topicRepository.findTopicsWithEntriesInDateRange(LocalDateTime.now().minusDays(1),
+                LocalDateTime.now().plusDays(1), FIRST_PAGE));
+    }
+
+    private void assertEntryPage(Supplier<Page<EntryResponse>> query) {
+        assertEntries(() -> {
+            Page<EntryResponse> page = query.get();
+            assertThat(page.getTotalElements()).isEqualTo(5);
+            return page.getContent();
+        }, 2);
+    }
+
+    private void assertEntries(Supplier<List<EntryResponse>> query, long expectedStatements) {
+        statistics.clear();
+        List<EntryResponse> entries = query.get();
+
+        assertThat(entries).isNotEmpty().allSatisfy(entry -> {
+            assertThat(entry.getTopicTitle()).startsWith("baslik");
+            assertThat(entry.getAuthorUsername()).startsWith("yazar");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expectedStatements);
+    }
+
+    private void assertTopicPage(Supplier<Page<TopicResponse>> query) {
+        statistics.clear();
+        Page<TopicResponse> page = query.get();
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).hasSize(3)
+                .allSatisfy(topic -> assertThat(topic.getAuthorUsername()).startsWith("yazar"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
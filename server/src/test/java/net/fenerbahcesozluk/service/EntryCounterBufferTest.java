@@ -0,0 +1,57 @@
+package net.fenerbahcesozluk.service;
+
+import net.fenerbahcesozluk.dto.EntryResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EntryCounterBufferTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final EntryCounterBuffer buffer = new EntryCounterBuffer(jdbcTemplate);
+    private final UUID entryId = UUID.randomUUID();
+
+    @Test
+    void deltasStayVisibleWhileFlushIsWriting() {
+        AtomicReference<Integer> duringWrite = new AtomicReference<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            // UPDATE sürerken gelen okuma ve oy
+            duringWrite.set(likesSeen());
+            buffer.add(entryId, 1, 0, 0);
+            return new int[1];
+        });
+
+        buffer.add(entryId, 2, 0, 0);
+        buffer.flush();
+
+        assertThat(duringWrite.get()).isEqualTo(2);
+        // Yazılan 2 düşüldü, yazım sırasında gelen 1 bekliyor
+        assertThat(likesSeen()).isEqualTo(1);
+    }
+
+    @Test
+    void failedFlushKeepsDeltasForNextFlush() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new IllegalStateException("db down"));
+
+        buffer.add(entryId, 2, 0, 0);
+        buffer.flush();
+
+        assertThat(likesSeen()).isEqualTo(2);
+    }
+
+    private Integer likesSeen() {
+        EntryResponse response = new EntryResponse();
+        response.setId(entryId);
+        response.setLikeCount(0);
+        buffer.applyPending(response);
+        return response.getLikeCount();
+    }
+}
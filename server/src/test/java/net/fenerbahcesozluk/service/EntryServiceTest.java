@@ -0,0 +1,54 @@
+package net.fenerbahcesozluk.service;
+
+import net.fenerbahcesozluk.dto.EntryResponse;
+import net.fenerbahcesozluk.repository.EntryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EntryServiceTest {
+
+    @Mock
+    private EntryRepository entryRepository;
+
+    @Mock
+    private EntryCounterBuffer entryCounterBuffer;
+
+    @InjectMocks
+    private EntryService entryService;
+
+    @Test
+    void randomEntriesKeepPickedOrderAndSkipDeletedEntries() {
+        UUID first = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        UUID last = UUID.randomUUID();
+        Pageable pageable = PageRequest.of(0, 3);
+        when(entryRepository.findRandomEntryIds(pageable))
+                .thenReturn(new PageImpl<>(List.of(first, deleted, last), pageable, 10));
+        // Projeksiyon sorgusu id sırasını korumaz; silinen entry de gelmez
+        when(entryRepository.findResponsesByIds(List.of(first, deleted, last)))
+                .thenReturn(List.of(response(last), response(first)));
+
+        Page<EntryResponse> page = entryService.getRandomEntries(null, pageable);
+
+        assertThat(page.getContent()).extracting(EntryResponse::getId).containsExactly(first, last);
+        assertThat(page.getTotalElements()).isEqualTo(10);
+    }
+
+    private static EntryResponse response(UUID id) {
+        return EntryResponse.builder().id(id).likeCount(0).dislikeCount(0).favoriteCount(0).build();
+    }
+}
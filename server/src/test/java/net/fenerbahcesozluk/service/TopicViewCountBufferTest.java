@@ -0,0 +1,91 @@
+package net.fenerbahcesozluk.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TopicViewCountBufferTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final Map<UUID, Long> written = new ConcurrentHashMap<>();
+    private final TopicViewCountBuffer buffer = new TopicViewCountBuffer(jdbcTemplate);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void concurrentViewsSurviveFlushesAndIdlePruning() throws Exception {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            rows.forEach(row -> written.merge((UUID) row[1], (Long) row[0], Long::sum));
+            return new int[rows.size()];
+        });
+
+        // Bir sıcak başlık ve arada bir görüntülenen, flush'lar arasında boşta kalıp
+        // çıkarılan başlıklar
+        UUID hot = UUID.randomUUID();
+        List<UUID> cold = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            cold.add(UUID.randomUUID());
+        }
+
+        int threads = 8;
+        int viewsPerThread = 50_000;
+        Map<UUID, Long> expected = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean flushing = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (flushing.get()) {
+                buffer.flush();
+            }
+        });
+        flusher.start();
+
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < viewsPerThread; i++) {
+                    UUID topicId = random.nextInt(10) == 0 ? cold.get(random.nextInt(cold.size())) : hot;
+                    buffer.increment(topicId);
+                    expected.merge(topicId, 1L, Long::sum);
+                    if (i % 1000 == 0) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+
+        done.await();
+        flushing.set(false);
+        flusher.join();
+        buffer.flush();
+
+        assertThat(written).isEqualTo(expected);
+        assertThat(buffer.getPending(hot)).isZero();
+    }
+
+    @Test
+    void failedFlushKeepsViewsForNextFlush() {
+        UUID topicId = UUID.randomUUID();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new IllegalStateException("db down"));
+
+        buffer.increment(topicId);
+        buffer.increment(topicId);
+        buffer.flush();
+
+        assertThat(buffer.getPending(topicId)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,100 @@
+package net.fenerbahcesozluk.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.fenerbahcesozluk.cache.VoteStateCache;
+import net.fenerbahcesozluk.dto.EntryVoteState;
+import net.fenerbahcesozluk.dto.VoteRequest;
+import net.fenerbahcesozluk.entity.User;
+import net.fenerbahcesozluk.enums.VoteType;
+import net.fenerbahcesozluk.exception.BusinessException;
+import net.fenerbahcesozluk.repository.VoteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VoteServiceTest {
+
+    private final VoteRepository voteRepository = mock(VoteRepository.class);
+    private final VoteStateCache voteStateCache = mock(VoteStateCache.class);
+    private final UUID entryId = UUID.randomUUID();
+    private final User user = new User();
+
+    private VoteBatchWriter voteBatchWriter;
+    private VoteService voteService;
+
+    @BeforeEach
+    void setUp() {
+        user.setId(UUID.randomUUID());
+        voteBatchWriter = new VoteBatchWriter(mock(JdbcTemplate.class), mock(PlatformTransactionManager.class),
+                mock(EntryCounterBuffer.class), voteStateCache, mock(VoteBroadcastCoalescer.class),
+                new SimpleMeterRegistry(), 100, 10, Duration.ofMillis(100), Duration.ofMinutes(1));
+        voteService = new VoteService(voteRepository, voteBatchWriter);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        voteBatchWriter.destroy();
+    }
+
+    @Test
+    void firstVoteLikesAndSecondTogglesOffWithoutRedis() {
+        // Kullanıcının oyu yok: entry var, voteType null
+        when(voteRepository.findVoteState(entryId, user.getId()))
+                .thenReturn(Optional.of(new EntryVoteState(entryId, null)));
+
+        voteService.vote(like(), user);
+        assertThat(voteBatchWriter.overlay(entryId, user.getId(), null)).isEqualTo(VoteType.LIKE);
+
+        voteService.vote(like(), user);
+        assertThat(voteBatchWriter.overlay(entryId, user.getId(), null)).isNull();
+        // İkinci tıklamanın tabanı bekleyen hedeften gelir
+        verify(voteRepository, times(1)).findVoteState(entryId, user.getId());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void firstVoteResolvesStoredBaseThroughSharedTarget() {
+        when(voteRepository.findVoteState(entryId, user.getId()))
+                .thenReturn(Optional.of(new EntryVoteState(entryId, null)));
+        // Ortak hedef yok: taban kayıtlı oydan çözülür
+        when(voteStateCache.swapPending(eq(user.getId()), eq(entryId), any(), any())).thenAnswer(invocation -> {
+            UnaryOperator<VoteType> change = invocation.getArgument(2);
+            Supplier<VoteType> base = invocation.getArgument(3);
+            return new VoteStateCache.PendingVote(change.apply(base.get()));
+        });
+
+        voteService.vote(like(), user);
+
+        assertThat(voteBatchWriter.overlay(entryId, user.getId(), null)).isEqualTo(VoteType.LIKE);
+    }
+
+    @Test
+    void voteOnMissingEntryIsRejected() {
+        when(voteRepository.findVoteState(entryId, user.getId())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> voteService.vote(like(), user)).isInstanceOf(BusinessException.class)
+                .hasMessage("Entry bulunamadı");
+        assertThat(voteBatchWriter.overlay(entryId, user.getId(), null)).isNull();
+    }
+
+    private VoteRequest like() {
+        return new VoteRequest(entryId, VoteType.LIKE);
+    }
+}